@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.braully.boleto;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark da leitura de um arquivo de retorno CNAB 400 grande.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RetornoFacadeBenchmark {
+
+    /**
+     * Quantidade de títulos (detalhes) do arquivo de retorno.
+     */
+    @Param("10000")
+    private int quantidade;
+
+    private List<String> linhas;
+
+    private String arquivo;
+
+    @Setup
+    public void setUp() {
+        linhas = new ArrayList<>(quantidade + 2);
+        linhas.add(linha('0', 1, 0));
+        for (int i = 0; i < quantidade; i++) {
+            linhas.add(linha('1', i + 2, i + 1));
+        }
+        linhas.add(linha('9', quantidade + 2, 0));
+        arquivo = String.join("\r\n", linhas);
+    }
+
+    @Benchmark
+    public RetornoFacade parse() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        retorno.parse(linhas);
+        return retorno;
+    }
+
+    /**
+     * Leitura em blocos no <code>ForkJoinPool</code> comum.
+     */
+    @Benchmark
+    public RetornoFacade parseParalelo() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        retorno.parseParalelo(linhas);
+        return retorno;
+    }
+
+    /**
+     * Leitura sob demanda, consumindo os registros sem acumulá-los.
+     */
+    @Benchmark
+    public long stream() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        return retorno.stream(new StringReader(arquivo))
+                .filter(r -> r.getName().startsWith("detalhe"))
+                .count();
+    }
+
+    /**
+     * Linha CNAB 400 do tipo de registro informado, com o nosso número e o
+     * valor (detalhes) e o sequencial do registro preenchidos e os demais
+     * campos zerados.
+     */
+    private static String linha(char tipoRegistro, int sequencial, int titulo) {
+        char[] linha = new char[400];
+        Arrays.fill(linha, '0');
+        linha[0] = tipoRegistro;
+        if (titulo > 0) {
+            escreva(linha, 70, 11, titulo);
+            escreva(linha, 152, 13, titulo * 100L);
+        }
+        escreva(linha, 394, 6, sequencial);
+        return new String(linha);
+    }
+
+    private static void escreva(char[] linha, int posicao, int tamanho, long valor) {
+        for (int i = posicao + tamanho - 1; i >= posicao && valor > 0; i--, valor /= 10) {
+            linha[i] = (char) ('0' + valor % 10);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 16:05:12
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 16:05:12
+ *
+ */
+package org.jrimum.bopepo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jrimum.bopepo.campolivre.CampoLivre;
+import org.jrimum.bopepo.campolivre.CampoLivreFactory;
+import org.jrimum.bopepo.excludes.TituloBuilder;
+import org.jrimum.domkee.banco.Titulo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Benchmarks da criação do boleto e dos seus componentes: campo livre, código
+ * de barras e linha digitável.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoletoBenchmark {
+
+    private Titulo titulo;
+
+    private CampoLivre campoLivre;
+
+    private CodigoDeBarras codigoDeBarras;
+
+    @Setup
+    public void setUp() {
+        titulo = TituloBuilder.defaultValue();
+        campoLivre = CampoLivreFactory.create(titulo);
+        codigoDeBarras = new CodigoDeBarras(titulo, campoLivre);
+    }
+
+    @Benchmark
+    public Boleto novoBoleto() {
+        return new Boleto(titulo);
+    }
+
+    @Benchmark
+    public CampoLivre campoLivre() {
+        return CampoLivreFactory.create(titulo);
+    }
+
+    @Benchmark
+    public CodigoDeBarras codigoDeBarras() {
+        return new CodigoDeBarras(titulo, campoLivre);
+    }
+
+    @Benchmark
+    public LinhaDigitavel linhaDigitavel() {
+        return new LinhaDigitavel(codigoDeBarras);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 23:41:26
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 23:41:26
+ *
+ */
+package org.jrimum.bopepo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Benchmarks da leitura de um lote de linhas digitáveis formatadas: um a um
+ * pelos métodos de {@link BoletoUtil} e em lote.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodigosDecodificadosBenchmark {
+
+    private static final String LINHA_DIGITAVEL = "39991.23452 67000.000009 00222.268922 3 43710000000965";
+
+    private String[] linhas;
+
+    @Setup
+    public void setUp() {
+        linhas = new String[1000];
+        for (int i = 0; i < linhas.length; i++) {
+            linhas[i] = new String(LINHA_DIGITAVEL);
+        }
+    }
+
+    @Benchmark
+    public long umAUm() {
+        long total = 0;
+        for (String linha : linhas) {
+            String codigo = BoletoUtil.linhaDigitavelFormatadaEmCodigoDeBarras(linha);
+            total += Long.parseLong(BoletoUtil.getValorDoTituloDoCodigoDeBarras(codigo));
+            total += BoletoUtil.getCampoLivreDoCodigoDeBarras(codigo).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long emLote() {
+        CodigosDecodificados lote = BoletoUtil.decodifiqueEmLote(linhas);
+        long total = 0;
+        for (int i = 0; i < lote.getQuantidade(); i++) {
+            total += lote.getValorEmCentavos(i);
+            total += lote.isValido(i) ? 25 : 0;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 16:05:12
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 16:05:12
+ *
+ */
+package org.jrimum.bopepo.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Benchmarks da geração da visualização e do PDF dos boletos, de um boleto
+ * isolado e de um lote agrupado em um único PDF.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoletoViewerBenchmark {
+
+    /**
+     * Quantidade de boletos do lote agrupado em um único PDF.
+     */
+    @Param("1000")
+    private int quantidade;
+
+    private ResourceBundle resourceBundle;
+
+    private Boleto boleto;
+
+    private BoletoViewer viewer;
+
+    private List<Boleto> boletos;
+
+    @Setup
+    public void setUp() {
+        resourceBundle = new ResourceBundle();
+        boleto = BoletoBuilder.defaultValue();
+        viewer = new BoletoViewer(boleto);
+        boletos = new ArrayList<Boleto>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            boletos.add(BoletoBuilder.defaultValue());
+        }
+    }
+
+    @Benchmark
+    public BoletoInfoViewBuilder infoViewBuilder() {
+        return new BoletoInfoViewBuilder(resourceBundle, boleto).build();
+    }
+
+    @Benchmark
+    public byte[] pdfAsByteArray() {
+        return viewer.getPdfAsByteArray();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 3, time = 5)
+    public byte[] groupInOnePDF() {
+        return BoletoViewer.groupInOnePDF(boletos);
+    }
+}
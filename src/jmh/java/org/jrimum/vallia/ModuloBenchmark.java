@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 22:44:03
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 22:44:03
+ *
+ */
+package org.jrimum.vallia;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Benchmarks dos cálculos de módulo usados nos dígitos verificadores; com
+ * <tt>-prof gc</tt> a alocação por chamada (<tt>gc.alloc.rate.norm</tt>) deve
+ * ser zero.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModuloBenchmark {
+
+    /**
+     * Código de barras sem o dígito verificador geral (43 dígitos).
+     */
+    private String codigoDeBarras = "0019373700000001000500940144816060680935031";
+
+    /**
+     * Primeiro campo da linha digitável sem o dígito verificador.
+     */
+    private String campoDaLinhaDigitavel = "001905009";
+
+    private long nossoNumero = 12345678901L;
+
+    private final Modulo modulo11 = new Modulo(TipoDeModulo.MODULO11);
+
+    @Benchmark
+    public int mod11CodigoDeBarras() {
+        return modulo11.calcule(codigoDeBarras);
+    }
+
+    @Benchmark
+    public int mod10LinhaDigitavel() {
+        return Modulo.calculeMod10(campoDaLinhaDigitavel, 1, 2);
+    }
+
+    @Benchmark
+    public int mod11Long() {
+        return Modulo.calculeMod11(nossoNumero, 2, 9);
+    }
+}
@@ -15,8 +15,10 @@
  */
 package com.github.braully.boleto;
 
+import java.text.Format;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.apache.log4j.Logger;
 import org.jrimum.utilix.FileUtil;
 
@@ -54,35 +56,36 @@ public class ArquivoFacade {
         if (linhas != null) {
             this.linhas.addAll(linhas);
         }
-        List<RegistroArquivo> registrosLayout = new ArrayList<>();
-        if (this.template != null && this.template.filhos != null) {
-            for (TagLayout tag : this.template.filhos) {
-                registrosLayout.add(new RegistroArquivo(tag));
-            }
-        }
-
+        IndiceRegistros indice = IndiceRegistros.de(this.template);
         for (String linha : linhas) {
             if (linha == null) {
                 continue;
             }
-            //Remove new line character
-            linha = linha.replace("\r", "").replace("\n", "");
-            RegistroArquivo regLido = null;
-            for (RegistroArquivo reg : registrosLayout) {
-                RegistroArquivo clone = reg.clone();
-                if (clone.checkIds(linha)) {
-                    regLido = clone;
-                    //System.out.println(reg.getDescricaoLayout());
-                    regLido.read(linha);
-                }
-            }
-            if (regLido != null) {
-                this.registros.add(regLido);
-            } else {
-                throw new IllegalStateException("Linha não reconhecida no layout linha=" + linha
-                        + " layout=" + this.template);
-            }
+            this.registros.add(lerRegistro(indice, linha));
+        }
+    }
+
+    /**
+     * Lê uma linha no registro do template reconhecido pelos seus campos
+     * identificadores.
+     */
+    RegistroArquivo lerRegistro(IndiceRegistros indice, String linha) {
+        return lerRegistro(indice, linha, null);
+    }
+
+    /**
+     * Lê a linha com os formatadores dos campos trocados pelas suas cópias em
+     * <code>copias</code> (ver {@link IndiceRegistros#ler(String, Map)}).
+     */
+    RegistroArquivo lerRegistro(IndiceRegistros indice, String linha, Map<Format, Format> copias) {
+        //Remove new line character
+        linha = linha.replace("\r", "").replace("\n", "");
+        RegistroArquivo regLido = indice.ler(linha, copias);
+        if (regLido == null) {
+            throw new IllegalStateException("Linha não reconhecida no layout linha=" + linha
+                    + " layout=" + this.template);
         }
+        return regLido;
     }
 
 //TODO: Melhorar isso
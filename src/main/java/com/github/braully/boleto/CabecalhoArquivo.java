@@ -29,76 +29,82 @@ import java.util.Date;
 /* Reune atributos recorrentes nos registros do tipo cabecalho */
 public class CabecalhoArquivo extends RegistroArquivo {
 
+    private static final String SEQUENCIAL_ARQUIVO = fsequencialArquivo().nome;
+    private static final String NUMERO_REMESSA = fnumeroRemessa().nome;
+    private static final String OPERACAO = foperacao().nome;
+    private static final String SERVICO = fservico().nome;
+    private static final String FORMA = fforma().nome;
+
     public CabecalhoArquivo(TagLayout get) {
         super(get);
     }
 
     public CabecalhoArquivo agencia(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("agencia", string);
     }
 
     public CabecalhoArquivo conta(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("conta", string);
     }
 
     public CabecalhoArquivo numeroConvenio(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("numeroConvenio", string);
     }
 
     public CabecalhoArquivo cedente(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("cedente", string);
     }
 
     public CabecalhoArquivo dataGeracao(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("dataGeracao", string);
     }
 
     public CabecalhoArquivo dataGeracao(Date data) {
-        return (CabecalhoArquivo) setValue(data);
+        return (CabecalhoArquivo) setVal("dataGeracao", data);
     }
 
     public CabecalhoArquivo cedenteCnpj(String string) {
-        return (CabecalhoArquivo) setValue(string);
+        return (CabecalhoArquivo) setVal("cedenteCnpj", string);
     }
 
     public CabecalhoArquivo sequencialArquivo(Integer i) {
-        setValue(fsequencialArquivo().nome, i);
+        setValue(SEQUENCIAL_ARQUIVO, i);
         return this;
     }
 
     public CabecalhoArquivo numeroRemessa(Integer i) {
-        setValue(fnumeroRemessa().nome, i);
+        setValue(NUMERO_REMESSA, i);
         return this;
     }
 
     public Integer sequencialArquivo() {
-        return getValueAsInteger(fsequencialArquivo().nome);
+        return getValueAsInteger(SEQUENCIAL_ARQUIVO);
     }
 
     public CabecalhoArquivo operacao(Object op) {
-        setValue(foperacao().nome, op);
+        setValue(OPERACAO, op);
         return this;
     }
 
     public String operacao() {
-        return getValue(foperacao().nome);
+        return getValue(OPERACAO);
     }
 
     public CabecalhoArquivo servico(Object op) {
-        setValue(fservico().nome, op);
+        setValue(SERVICO, op);
         return this;
     }
 
     public String servico() {
-        return getValue(fservico().nome);
+        return getValue(SERVICO);
     }
 
     public CabecalhoArquivo forma(Object op) {
-        setValue(fforma().nome, op);
+        setValue(FORMA, op);
         return this;
     }
 
     public Object forma() {
-        return getValue(fforma().nome);
+        return getValue(FORMA);
     }
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.braully.boleto;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Objects;
+import org.jrimum.texgit.FixedField;
+import org.jrimum.utilix.FileUtil;
+
+/**
+ * Escrita incremental de uma remessa: cada registro é renderizado no
+ * <code>Writer</code> assim que o registro seguinte é adicionado, sem acumular
+ * os registros nem as linhas do arquivo (ver {@link RemessaFacade#render()}).
+ *
+ * <p>
+ * O escritor mantém os contadores da remessa e os preenche nos registros ao
+ * escrevê-los: <code>lote</code> dos registros do lote,
+ * <code>sequencialRegistro</code> (no lote, para os detalhes de layouts com
+ * lotes, ou no arquivo), e os totais <code>quantidadeRegistros</code>,
+ * <code>valorTotalRegistros</code> e quantidade de lotes dos rodapés. Ao
+ * fechar, um lote aberto recebe o seu rodapé e o rodapé do arquivo é escrito,
+ * criado a partir do template se não tiver sido adicionado. Como cada registro
+ * é escrito ao adicionar o seguinte, ele deve ser preenchido antes disso.
+ * </p>
+ *
+ * <p>
+ * Erros de escrita nos métodos de inclusão são lançados como
+ * {@link UncheckedIOException}.
+ * </p>
+ */
+public class EscritorRemessa implements Closeable, Flushable {
+
+    private static final String CABECALHO = "cabecalho";
+    private static final String CABECALHO_LOTE = "cabecalhoLote";
+    private static final String RODAPE_LOTE = "rodapeLote";
+    private static final String RODAPE = "rodape";
+
+    private static final String LOTE = "lote";
+    private static final String VALOR = "valor";
+    private static final String SEQUENCIAL_REGISTRO = "sequencialRegistro";
+    private static final String QUANTIDADE_REGISTROS = "quantidadeRegistros";
+    private static final String VALOR_TOTAL_REGISTROS = "valorTotalRegistros";
+    private static final String[] QUANTIDADE_LOTES = {"qtdeLotes", "quantidadeLotesArquivo"};
+
+    private final RemessaFacade remessa;
+    private final Writer writer;
+
+    /**
+     * Último registro adicionado, escrito quando o próximo é adicionado para
+     * que ainda possa ser preenchido pelo chamador.
+     */
+    private RegistroArquivo pendente;
+
+    private int registros;
+    private int lotes;
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+
+    private boolean emLote;
+    private int registrosLote;
+    private int sequencialLote;
+    private BigDecimal valorLote = BigDecimal.ZERO;
+
+    private RegistroArquivo cabecalho;
+    private RegistroArquivo cabecalhoLote;
+
+    private boolean rodapeEscrito;
+    private boolean fechado;
+
+    EscritorRemessa(RemessaFacade remessa, Writer writer) {
+        this.remessa = Objects.requireNonNull(remessa, "remessa");
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    public CabecalhoArquivo addNovoCabecalho() {
+        return add(remessa.novoCabecalho(CABECALHO));
+    }
+
+    public CabecalhoArquivo addNovoCabecalhoLote() {
+        return add(remessa.novoCabecalho(CABECALHO_LOTE));
+    }
+
+    public TituloArquivo addNovoDetalhe() {
+        return add(remessa.novoTitulo("detalhe"));
+    }
+
+    public TituloArquivo addNovoDetalhe(String segmento) {
+        return add(remessa.novoTitulo("detalheSegmento" + segmento));
+    }
+
+    public TituloArquivo addNovoDetalheSegmentoJ() {
+        return addNovoDetalhe("J");
+    }
+
+    public TituloArquivo addNovoDetalheSegmentoJ52() {
+        return addNovoDetalhe("J52");
+    }
+
+    public TituloArquivo addNovoDetalheSegmentoP() {
+        return addNovoDetalhe("P");
+    }
+
+    public TituloArquivo addNovoDetalheSegmentoQ() {
+        return addNovoDetalhe("Q");
+    }
+
+    public TituloArquivo addNovoDetalheSegmentoR() {
+        return addNovoDetalhe("R");
+    }
+
+    public TituloArquivo addNovoDetalheTransacao() {
+        return addNovoDetalhe();
+    }
+
+    public RodapeArquivo addNovoRodapeLote() {
+        return add(remessa.novoRodape(RODAPE_LOTE));
+    }
+
+    public RodapeArquivo addNovoRodape() {
+        return add(remessa.novoRodape(RODAPE));
+    }
+
+    public RegistroArquivo addNovoRegistro(String tipoRegistro) {
+        return add(remessa.novoRegistro(tipoRegistro));
+    }
+
+    /**
+     * Adiciona o registro, escrevendo o registro adicionado anteriormente.
+     */
+    public <T extends RegistroArquivo> T add(T registro) {
+        Objects.requireNonNull(registro, "registro");
+        if (fechado || rodapeEscrito || (pendente != null && RODAPE.equals(pendente.getName()))) {
+            throw new IllegalStateException("Remessa já encerrada pelo rodapé, registro=" + registro.getName());
+        }
+        try {
+            escreverPendente();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendente = registro;
+        return registro;
+    }
+
+    /**
+     * Quantidade de registros (linhas) já escritos.
+     */
+    public int getQuantidadeRegistros() {
+        return registros;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Escreve o último registro, o rodapé do lote aberto e o rodapé do
+     * arquivo, e fecha o <code>Writer</code>.
+     */
+    @Override
+    public void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        try {
+            escreverPendente();
+            fecharLote();
+            if (!rodapeEscrito && remessa.template.get(RODAPE) != null) {
+                escrever(novoRodape(RODAPE, cabecalho));
+            }
+            writer.flush();
+        } finally {
+            fechado = true;
+            writer.close();
+        }
+    }
+
+    private void escreverPendente() throws IOException {
+        if (pendente != null) {
+            RegistroArquivo registro = pendente;
+            pendente = null;
+            escrever(registro);
+        }
+    }
+
+    private void escrever(RegistroArquivo registro) throws IOException {
+        String tipo = registro.getName();
+        if (CABECALHO_LOTE.equals(tipo)) {
+            fecharLote();
+            cabecalhoLote = registro;
+            lotes++;
+            emLote = true;
+            registrosLote = 0;
+            sequencialLote = 0;
+            valorLote = BigDecimal.ZERO;
+        } else if (CABECALHO.equals(tipo)) {
+            cabecalho = registro;
+        } else if (RODAPE_LOTE.equals(tipo) && !emLote) {
+            throw new IllegalStateException("Rodapé de lote sem cabeçalho de lote");
+        }
+
+        boolean detalhe = !CABECALHO.equals(tipo) && !CABECALHO_LOTE.equals(tipo)
+                && !RODAPE_LOTE.equals(tipo) && !RODAPE.equals(tipo);
+        if (emLote && temCampo(registro, LOTE)) {
+            registro.setVal(LOTE, lotes);
+        }
+        if (temCampo(registro, SEQUENCIAL_REGISTRO)) {
+            registro.sequencialRegistro(emLote && detalhe ? ++sequencialLote : registros + 1);
+        }
+        if (detalhe && temCampo(registro, VALOR)) {
+            Number valor = registro.getValueAsNumber(VALOR);
+            if (valor != null) {
+                BigDecimal decimal = new BigDecimal(valor.toString());
+                valorTotal = valorTotal.add(decimal);
+                valorLote = valorLote.add(decimal);
+            }
+        }
+        if (RODAPE_LOTE.equals(tipo)) {
+            totais(registro, registrosLote + 1, valorLote);
+        } else if (RODAPE.equals(tipo)) {
+            totais(registro, registros + 1, valorTotal);
+            for (String quantidadeLotes : QUANTIDADE_LOTES) {
+                if (lotes > 0 && temCampo(registro, quantidadeLotes)) {
+                    registro.setVal(quantidadeLotes, lotes);
+                }
+            }
+        }
+
+        writer.write(registro.render());
+        writer.write(FileUtil.NEW_LINE);
+        registros++;
+        if (emLote) {
+            registrosLote++;
+        }
+
+        if (RODAPE_LOTE.equals(tipo)) {
+            emLote = false;
+        } else if (RODAPE.equals(tipo)) {
+            rodapeEscrito = true;
+        }
+    }
+
+    /**
+     * Rodapé do lote aberto, criado a partir do template.
+     */
+    private void fecharLote() throws IOException {
+        if (emLote && remessa.template.get(RODAPE_LOTE) != null) {
+            escrever(novoRodape(RODAPE_LOTE, cabecalhoLote));
+        }
+    }
+
+    /**
+     * Rodapé criado pelo escritor, com os campos sem valor preenchidos pelos
+     * campos de mesmo nome do cabeçalho correspondente (banco, convênio...).
+     */
+    private RodapeArquivo novoRodape(String tipo, RegistroArquivo cabecalho) {
+        RodapeArquivo rodape = remessa.novoRodape(tipo);
+        if (cabecalho != null) {
+            for (FixedField<?> campo : rodape.getFields()) {
+                if (campo.getValue() == null && temCampo(cabecalho, campo.getName())) {
+                    Object valor = cabecalho.getValue(campo.getName());
+                    if (valor != null) {
+                        rodape.setVal(campo.getName(), valor);
+                    }
+                }
+            }
+        }
+        return rodape;
+    }
+
+    private static void totais(RegistroArquivo rodape, int quantidade, BigDecimal valor) {
+        if (temCampo(rodape, QUANTIDADE_REGISTROS)) {
+            rodape.setVal(QUANTIDADE_REGISTROS, quantidade);
+        }
+        if (temCampo(rodape, VALOR_TOTAL_REGISTROS)) {
+            rodape.setVal(VALOR_TOTAL_REGISTROS, numero(valor));
+        }
+    }
+
+    /**
+     * Totais inteiros (valores em centavos, como nos layouts suportados) são
+     * escritos como <code>Long</code>, pois os campos numéricos sem formatador
+     * não aceitam <code>BigDecimal</code>.
+     */
+    private static Number numero(BigDecimal valor) {
+        BigDecimal semZeros = valor.stripTrailingZeros();
+        return semZeros.scale() <= 0 ? (Number) semZeros.longValueExact() : valor;
+    }
+
+    private static boolean temCampo(RegistroArquivo registro, String campo) {
+        return registro.getFieldIndex().containsKey(campo);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.braully.boleto;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.text.Format;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jrimum.texgit.FixedField;
+
+/**
+ * Índice de despacho dos registros de um layout (template), compilado uma
+ * única vez a partir dos campos identificadores (<code>idType</code> e
+ * <code>extraIds</code>) de cada registro.
+ *
+ * <p>
+ * Cada linha é classificada por consulta direta ao valor do identificador
+ * principal e apenas o registro reconhecido é instanciado e lido, preservando
+ * a regra do parse original: vence o último registro do template cujos
+ * identificadores conferem com a linha.
+ * </p>
+ */
+class IndiceRegistros {
+
+    private final List<Chave> chaves = new ArrayList<>();
+
+    private IndiceRegistros(TagLayout template) {
+        Map<Slot, Map<String, List<Candidato>>> porSlot = new LinkedHashMap<>();
+        if (template != null && template.filhos != null) {
+            int ordem = 0;
+            for (TagLayout tag : template.filhos) {
+                Candidato candidato = Candidato.compilar(tag, ordem++);
+                if (candidato != null) {
+                    porSlot.computeIfAbsent(candidato.id.slot, s -> new HashMap<>())
+                            .computeIfAbsent(candidato.id.valor, v -> new ArrayList<>())
+                            .add(0, candidato);
+                }
+            }
+        }
+        for (Map.Entry<Slot, Map<String, List<Candidato>>> e : porSlot.entrySet()) {
+            Map<String, Candidato[]> valores = new HashMap<>();
+            for (Map.Entry<String, List<Candidato>> v : e.getValue().entrySet()) {
+                valores.put(v.getKey(), v.getValue().toArray(new Candidato[0]));
+            }
+            chaves.add(new Chave(e.getKey(), valores));
+        }
+    }
+
+    /**
+     * Índice do template; layouts somente leitura (ver
+     * {@link TagLayout#cloneReadonly()}) compartilham o índice compilado.
+     */
+    static IndiceRegistros de(TagLayout template) {
+        if (template == null || !template.somenteLeitura) {
+            return new IndiceRegistros(template);
+        }
+        IndiceRegistros indice = template.indiceRegistros;
+        if (indice == null) {
+            indice = new IndiceRegistros(template);
+            template.indiceRegistros = indice;
+        }
+        return indice;
+    }
+
+    /**
+     * Layout do registro correspondente à linha ou <code>null</code> se nenhum
+     * registro do template a reconhece.
+     */
+    TagLayout classificar(String linha) {
+        Candidato escolhido = null;
+        for (Chave chave : chaves) {
+            String valor = chave.slot.ler(linha);
+            if (valor == null) {
+                continue;
+            }
+            Candidato[] candidatos = chave.valores.get(valor);
+            if (candidatos == null) {
+                continue;
+            }
+            for (Candidato c : candidatos) {
+                if (escolhido != null && escolhido.ordem > c.ordem) {
+                    break;
+                }
+                if (c.confere(linha)) {
+                    escolhido = c;
+                    break;
+                }
+            }
+        }
+        return escolhido == null ? null : escolhido.layout;
+    }
+
+    /**
+     * Lê a linha no registro reconhecido pelo índice.
+     */
+    RegistroArquivo ler(String linha) {
+        return ler(linha, null);
+    }
+
+    /**
+     * Lê a linha no registro reconhecido pelo índice, trocando antes os
+     * formatadores dos seus campos pelas cópias em <code>copias</code>; cada
+     * formatador é clonado na primeira vez em que aparece. Formatadores
+     * imutáveis, como <code>ImmutableDateFormat</code>, retornam a si próprios
+     * no clone e continuam compartilhados.
+     *
+     * @param copias Cópias dos formatadores do template, indexadas pela
+     * identidade do original, ou <code>null</code> para usar os originais
+     */
+    RegistroArquivo ler(String linha, Map<Format, Format> copias) {
+        TagLayout layout = classificar(linha);
+        if (layout == null) {
+            return null;
+        }
+        RegistroArquivo registro = new RegistroArquivo(layout);
+        if (copias != null) {
+            for (FixedField<?> campo : registro.getFields()) {
+                Format formato = campo.getFormatter();
+                if (formato != null) {
+                    campo.setFormatter(copias.computeIfAbsent(formato, f -> (Format) f.clone()));
+                }
+            }
+        }
+        registro.read(linha);
+        return registro;
+    }
+
+    /**
+     * Posição, comprimento e leitura de um campo identificador na linha.
+     */
+    private static final class Slot {
+
+        final int posicao;
+        final int comprimento;
+        final boolean brancoComoZero;
+
+        Slot(int posicao, int comprimento, boolean brancoComoZero) {
+            this.posicao = posicao;
+            this.comprimento = comprimento;
+            this.brancoComoZero = brancoComoZero;
+        }
+
+        /**
+         * Mesmo valor obtido por <code>FixedField.read</code> para campos
+         * texto: o trecho da linha, ou "0" se branco e o campo aceitar branco.
+         */
+        String ler(String linha) {
+            int fim = posicao + comprimento;
+            if (linha.length() < fim) {
+                return null;
+            }
+            String valor = linha.substring(posicao, fim);
+            if (brancoComoZero && isBlank(valor)) {
+                valor = "0";
+            }
+            return valor;
+        }
+
+        boolean confere(String linha, String esperado) {
+            if (!brancoComoZero) {
+                return esperado.length() == comprimento
+                        && linha.length() >= posicao + comprimento
+                        && linha.regionMatches(posicao, esperado, 0, comprimento);
+            }
+            return esperado.equals(ler(linha));
+        }
+
+        @Override
+        public int hashCode() {
+            return (posicao * 31 + comprimento) * 2 + (brancoComoZero ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Slot)) {
+                return false;
+            }
+            Slot outro = (Slot) obj;
+            return posicao == outro.posicao && comprimento == outro.comprimento
+                    && brancoComoZero == outro.brancoComoZero;
+        }
+    }
+
+    private static final class Identificador {
+
+        final Slot slot;
+        final String valor;
+
+        Identificador(Slot slot, String valor) {
+            this.slot = slot;
+            this.valor = valor;
+        }
+    }
+
+    private static final class Chave {
+
+        final Slot slot;
+        final Map<String, Candidato[]> valores;
+
+        Chave(Slot slot, Map<String, Candidato[]> valores) {
+            this.slot = slot;
+            this.valores = valores;
+        }
+    }
+
+    /**
+     * Registro do template com seus identificadores já resolvidos em
+     * posições fixas da linha.
+     */
+    private static final class Candidato {
+
+        final TagLayout layout;
+        final int ordem;
+        final Identificador id;
+        final Identificador[] extras;
+
+        Candidato(TagLayout layout, int ordem, Identificador id, Identificador[] extras) {
+            this.layout = layout;
+            this.ordem = ordem;
+            this.id = id;
+            this.extras = extras;
+        }
+
+        boolean confere(String linha) {
+            for (Identificador extra : extras) {
+                if (!extra.slot.confere(linha, extra.valor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Resolve os identificadores a partir do registro montado pelo
+         * próprio <code>RegistroArquivo</code>, de modo que valores,
+         * preenchimentos e posições sejam exatamente os usados em
+         * {@link RegistroArquivo#checkIds(String)}. Registros que nunca seriam
+         * reconhecidos retornam <code>null</code>.
+         */
+        static Candidato compilar(TagLayout layout, int ordem) {
+            RegistroArquivo prototipo = new RegistroArquivo(layout);
+            Identificador id = identificador(prototipo, prototipo.getIdType());
+            if (id == null) {
+                return null;
+            }
+            List<Identificador> extras = new ArrayList<>();
+            if (prototipo.extraIds != null) {
+                for (FixedField<?> ff : prototipo.extraIds) {
+                    Identificador extra = identificador(prototipo, ff);
+                    if (extra == null) {
+                        return null;
+                    }
+                    extras.add(extra);
+                }
+            }
+            return new Candidato(layout, ordem, id, extras.toArray(new Identificador[0]));
+        }
+
+        private static Identificador identificador(RegistroArquivo prototipo, FixedField<?> ff) {
+            if (ff == null || ff.getValue() == null || ff.getFixedLength() == null) {
+                return null;
+            }
+            int posicao = 0;
+            for (FixedField<?> campo : prototipo.getFields()) {
+                if (Objects.equals(campo.getName(), ff.getName())) {
+                    break;
+                }
+                if (campo.getFixedLength() == null) {
+                    return null;
+                }
+                posicao += campo.getFixedLength();
+            }
+            Slot slot = new Slot(posicao, ff.getFixedLength(), ff.isBlankAccepted());
+            return new Identificador(slot, ff.getValue().toString());
+        }
+    }
+}
@@ -17,12 +17,14 @@ package com.github.braully.boleto;
 
 import static com.github.braully.boleto.CNAB.*;
 import static com.github.braully.boleto.TagLayout.TagCreator.*;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jrimum.texgit.Fillers;
+import org.jrimum.utilix.ImmutableDateFormat;
 
 
 /**
@@ -75,7 +77,7 @@ public class LayoutsSuportados {
                     //Data de Geração do Arquivo1441518-Num
                     fdataGeracao(),
                     //Hora de Geração do Arquivo1521576
-                    field("horaGeracao").length(6).format(new SimpleDateFormat("hhmmss")),
+                    field("horaGeracao").length(6).format(ImmutableDateFormat.of("hhmmss")),
                     //Número Seqüencial do Arquivo1581636-Num*G018
                     fsequencialArquivo().length(6),
                     field("versaoLayoutArquivo").valLen("103"),
@@ -601,7 +603,7 @@ public class LayoutsSuportados {
             fbranco().length(10),
             fcodigoArquivo().length(1),
             fdataGeracao().length(8),
-            field("horaGeracao").length(6).format(new SimpleDateFormat("hhmmss")),
+            field("horaGeracao").length(6).format(ImmutableDateFormat.of("hhmmss")),
             fsequencialArquivo().length(6),
             field("versaoLayoutArquivo").length(3).value("107"),
             field("densidadeArquivo").length(5).filler(Fillers.ZERO_LEFT).value("0"),
@@ -897,7 +899,7 @@ public class LayoutsSuportados {
             fcedenteNome().length(30),
             fbancoCodigo().length(3).value("237"),
             fbancoNome().length(15).value("BRADESCO"),
-            fdataGeracao().length(6).format(new SimpleDateFormat("ddMMyy")),
+            fdataGeracao().length(6).format(ImmutableDateFormat.of("ddMMyy")),
             fbranco().length(8),
             field("identificacaoSistema").length(2).value("MX"),
             fsequencialArquivo().length(7).filler(Fillers.ZERO_LEFT),
@@ -930,17 +932,17 @@ public class LayoutsSuportados {
             field("quantidadePagamentos").length(2).filler(Fillers.WHITE_SPACE_RIGHT).value(" "),
             fcodigoOcorrencia().length(2).value("01"),
             fnumeroDocumento().length(10).filler(Fillers.ZERO_LEFT),
-            fdataVencimento().length(6).format(new SimpleDateFormat("ddMMyy")),
+            fdataVencimento().length(6).format(ImmutableDateFormat.of("ddMMyy")),
             fvalor().length(13).filler(Fillers.ZERO_LEFT),
             fzero().length(3),
             fzero().length(5),
             fespecieTitulo().length(2).value("01"),
             field("identificacao").length(1).value("N"),
-            fdataGeracao().length(6).format(new SimpleDateFormat("ddMMyy")),
+            fdataGeracao().length(6).format(ImmutableDateFormat.of("ddMMyy")),
             field("instrucao1").length(2).filler(Fillers.ZERO_LEFT).value(0),
             field("instrucao2").length(2).filler(Fillers.ZERO_LEFT).value(0),
             field("moraDiaria").length(13).filler(Fillers.ZERO_LEFT).value(0),
-            fdataDesconto().length(6).format(new SimpleDateFormat("ddMMyy")).value(0),
+            fdataDesconto().length(6).format(ImmutableDateFormat.of("ddMMyy")).value(0),
             fvalorDesconto().length(13).filler(Fillers.ZERO_LEFT).value(0),
             fvalorIOF().length(13).filler(Fillers.ZERO_LEFT).value(0),
             fvalorAbatimento().length(13).filler(Fillers.ZERO_LEFT).value(0),
@@ -1303,7 +1305,18 @@ public class LayoutsSuportados {
     public static final TagLayout LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO
             = _LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO.cloneReadonly();
 
-    private static final List<TagLayout> layoutsSuportados;
+    private static final Object QUALQUER = new Object();
+
+    /**
+     * Índice dos layouts por banco, cnab, serviço, convênio e carteira, em
+     * mapas aninhados nessa ordem. Cada layout é indexado também com
+     * {@link #QUALQUER} no lugar de cada um dos três últimos atributos, que são
+     * opcionais na busca, e o primeiro layout da lista vence, como na busca
+     * sequencial original.
+     */
+    private static final Map<Object, Object> indiceLayouts;
+
+    static final List<TagLayout> layoutsSuportados;
 
     static {
         List<TagLayout> layoutsSuportadosTmp = new ArrayList<>();
@@ -1331,6 +1344,36 @@ public class LayoutsSuportados {
 
         /* */
         layoutsSuportados = Collections.unmodifiableList(layoutsSuportadosTmp);
+        indiceLayouts = indexar(layoutsSuportados);
+    }
+
+    private static Map<Object, Object> indexar(List<TagLayout> layouts) {
+        Map<Object, Object> indice = new HashMap<>();
+        for (TagLayout layout : layouts) {
+            TagLayout descritor = layout.get("layout");
+            if (descritor == null) {
+                continue;
+            }
+            Object[] chave = {descritor.getValue("banco"), descritor.getValue("cnab"),
+                descritor.getValue("servico"), descritor.getValue("convenio"), descritor.getValue("carteira")};
+            for (int curinga = 0; curinga < 8; curinga++) {
+                Map<Object, Object> nivel = indice;
+                for (int i = 0; i < chave.length - 1; i++) {
+                    nivel = subnivel(nivel, i >= 2 && (curinga & (1 << (i - 2))) != 0 ? QUALQUER : chave[i]);
+                }
+                nivel.putIfAbsent((curinga & 4) != 0 ? QUALQUER : chave[chave.length - 1], layout);
+            }
+        }
+        return indice;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> subnivel(Map<Object, Object> nivel, Object chave) {
+        return (Map<Object, Object>) nivel.computeIfAbsent(chave, k -> new HashMap<>());
+    }
+
+    private static Object nivel(Object nivel, Object chave) {
+        return nivel == null ? null : ((Map<?, ?>) nivel).get(chave);
     }
 
     public static TagLayout getLayoutArquivoBancarioRemessaCobranca(String codBanco, String numConvenio,
@@ -1349,23 +1392,17 @@ public class LayoutsSuportados {
                 null, null, null, null, null);
     }
 
-    //TODO: Implementar um metodo de busca por layouts, a partir de atributos relevantes
+    /**
+     * Layout suportado pelos atributos do seu descritor; serviço, convênio e
+     * carteira nulos aceitam qualquer valor. Consulta direta ao índice
+     * montado na carga da classe.
+     */
     public static TagLayout getLayoutArquivoBancario(CNABServico servico, CNAB cnab, String codBanco,
             String convenio, String agencia, String conta, String carteira, Boolean registrado) {
-        TagLayout ret = null;
-        for (TagLayout layout : layoutsSuportados) {
-            TagLayout descritor = layout.get("layout");
-            if (descritor != null
-                    && eq(descritor.getValue("banco"), codBanco)
-                    && eq(descritor.getValue("cnab"), cnab)
-                    && (servico == null || eq(descritor.getValue("servico"), servico))
-                    && (convenio == null || eq(descritor.getValue("convenio"), convenio))
-                    && (carteira == null || eq(descritor.getValue("carteira"), carteira))) {
-                ret = layout;
-                break;
-            }
-        }
-        return ret;
+        Object porServico = nivel(nivel(indiceLayouts, codBanco), cnab);
+        Object porConvenio = nivel(porServico, servico == null ? QUALQUER : servico);
+        Object porCarteira = nivel(porConvenio, convenio == null ? QUALQUER : convenio);
+        return (TagLayout) nivel(porCarteira, carteira == null ? QUALQUER : carteira);
     }
 
     public static boolean eq(Object value1, Object value2) {
@@ -39,6 +39,17 @@ import org.jrimum.utilix.Objects;
  */
 public class RegistroArquivo extends Record {
 
+    private static final String BANCO_CODIGO = fbancoCodigo().nome;
+    private static final String BANCO_NOME = fbancoNome().nome;
+    private static final String AGENCIA = fagencia().nome;
+    private static final String CONTA = fconta().nome;
+    private static final String CONVENIO = fconvenio().nome;
+    private static final String CEDENTE_NOME = fcedenteNome().nome;
+    private static final String CEDENTE_CNPJ = fcedenteCnpj().nome;
+    private static final String MOVIMENTO_CODIGO = fmovimentoCodigo().nome;
+    private static final String SEQUENCIAL_ARQUIVO = fsequencialArquivo().nome;
+    private static final String SEQUENCIAL_REGISTRO = fsequencialRegistro().nome;
+
     protected TagLayout layoutRegistro;
     protected List<FixedField> extraIds;
 
@@ -48,7 +59,63 @@ public class RegistroArquivo extends Record {
     public RegistroArquivo(TagLayout layoutRegistro) {
         this.setName(layoutRegistro.nome);
         this.layoutRegistro = layoutRegistro;
-        layoutRegistro.filhos.stream().forEach(l -> add(l));
+        if (layoutRegistro.somenteLeitura) {
+            RegistroArquivo prototipo = prototipo(layoutRegistro);
+            copiarCampos(prototipo);
+            setFieldIndex(prototipo.getFieldIndex());
+        } else {
+            for (TagLayout l : layoutRegistro.filhos) {
+                add(l);
+            }
+        }
+    }
+
+    /**
+     * Registro montado uma única vez a partir das tags de um layout somente
+     * leitura; os novos registros do layout copiam os seus campos em vez de
+     * reler os atributos das tags e compartilham o seu índice de campos
+     * (ver {@link Record#getFieldIndex()}).
+     */
+    private static RegistroArquivo prototipo(TagLayout layoutRegistro) {
+        RegistroArquivo prototipo = layoutRegistro.prototipoRegistro;
+        if (prototipo == null) {
+            prototipo = new RegistroArquivo();
+            for (TagLayout l : layoutRegistro.filhos) {
+                prototipo.add(l);
+            }
+            prototipo.getFieldIndex();
+            layoutRegistro.prototipoRegistro = prototipo;
+        }
+        return prototipo;
+    }
+
+    /**
+     * Copia rasa de cada campo do protótipo: apenas o valor passa a ser do
+     * novo registro, nome, comprimento, formatador e preenchedor continuam
+     * compartilhados. Os identificadores apontam para as cópias na mesma
+     * posição.
+     */
+    @SuppressWarnings("unchecked")
+    private void copiarCampos(RegistroArquivo prototipo) {
+        List<FixedField<?>> campos = prototipo.getFields();
+        this.fields = new ArrayList<>(campos.size());
+        for (FixedField<?> ff : campos) {
+            FixedField<?> copia;
+            try {
+                copia = ff.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException("Campo " + ff.getName() + " não suporta clonagem!", e);
+            }
+            this.fields.add(copia);
+            if (ff == prototipo.idType) {
+                this.idType = (FixedField<String>) copia;
+            }
+            if (prototipo.extraIds != null && prototipo.extraIds.contains(ff)) {
+                addExtraId(copia);
+            }
+        }
+        setLength(prototipo.getFixedLength());
+        setSize(prototipo.getFixedSize());
     }
 
     public void addExtraId(FixedField fixedField) {
@@ -66,34 +133,34 @@ public class RegistroArquivo extends Record {
 
     /* Campos comuns na maioria dos registros na maioria dos layouts */
     public RegistroArquivo sequencialRegistro(Integer seq) {
-        setValue(fsequencialRegistro().nome, seq);
+        setValue(SEQUENCIAL_REGISTRO, seq);
         return this;
     }
 
     public Integer sequencialRegistro() {
-        return this.getValueAsInteger();
+        return getValueAsInteger(SEQUENCIAL_REGISTRO);
     }
 
     public RegistroArquivo banco(String codigo, String nome) {
-        setValue(fbancoCodigo().nome, codigo).setValue(fbancoNome().nome, nome.toUpperCase());
+        setValue(BANCO_CODIGO, codigo).setValue(BANCO_NOME, nome.toUpperCase());
         return this;
     }
 
     public Integer sequencialArquivo() {
-        return getValueAsInteger(fsequencialArquivo().nome);
+        return getValueAsInteger(SEQUENCIAL_ARQUIVO);
     }
 
     public String bancoCodigo() {
-        return getValue(fbancoCodigo().nome);
+        return getValue(BANCO_CODIGO);
     }
 
     public RegistroArquivo cedente(String nome, String cnpj) {
-        setValue(fcedenteNome().nome, nome).setValue(fcedenteCnpj().nome, cnpj);
+        setValue(CEDENTE_NOME, nome).setValue(CEDENTE_CNPJ, cnpj);
         return this;
     }
 
     public String cedenteCnpj() {
-        return getValue(fcedenteCnpj().nome);
+        return getValue(CEDENTE_CNPJ);
     }
 
     public RegistroArquivo convenio(String convenio, String agencia, String conta, String dac) {
@@ -107,43 +174,43 @@ public class RegistroArquivo extends Record {
     }
 
     public RegistroArquivo convenio(String convenio) {
-        return setValue(convenio);
+        return setVal(CONVENIO, convenio);
     }
 
     public RegistroArquivo carteira(String carteira) {
-        return setValue(carteira);
+        return setVal("carteira", carteira);
     }
 
     public RegistroArquivo variacao(String variacao) {
-        return setValue(variacao);
+        return setVal("variacao", variacao);
     }
 
     public RegistroArquivo modalidade(String modalidade) {
-        return setValue(modalidade);
+        return setVal("modalidade", modalidade);
     }
 
     public String convenio() {
-        return getValue(fconvenio().nome);
+        return getValue(CONVENIO);
     }
 
     public RegistroArquivo agencia(String agencia) {
-        return setValue(agencia);
+        return setVal(AGENCIA, agencia);
     }
 
     public String agencia() {
-        return getValue(fagencia().nome);
+        return getValue(AGENCIA);
     }
 
     public RegistroArquivo conta(String conta) {
-        return setValue(conta);
+        return setVal(CONTA, conta);
     }
 
     public String conta() {
-        return getValue(fconta().nome);
+        return getValue(CONTA);
     }
 
     public RegistroArquivo dac(String dac) {
-        return setValue(dac);
+        return setVal("dac", dac);
     }
 
     public RegistroArquivo setVal(String nomeAtributo, Object valor) {
@@ -151,11 +218,19 @@ public class RegistroArquivo extends Record {
         return this;
     }
 
+    /**
+     * @deprecated Descobre o campo pelo nome do método chamador, percorrendo a
+     * pilha; use {@link #getValueAsString(String)}.
+     */
+    @Deprecated
     protected String getValue() {
-        //TODO: Melhorar isso; perda de performance
         String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
         /* Propriedade a ser setada é o nome do metodo que chamou */
-        Object value = this.getValue(nomeMetodoAnterior);
+        return getValueAsString(nomeMetodoAnterior);
+    }
+
+    public String getValueAsString(String nomefield) {
+        Object value = this.getValue(nomefield);
         String ret = null;
         if (value != null) {
             ret = value.toString();
@@ -178,8 +253,12 @@ public class RegistroArquivo extends Record {
         return str;
     }
 
+    /**
+     * @deprecated Descobre o campo pelo nome do método chamador, percorrendo a
+     * pilha; use {@link #getValueAsInteger(String)}.
+     */
+    @Deprecated
     public Integer getValueAsInteger() {
-        //TODO: Melhorar isso; perda de performance
         String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
         return getValueAsInteger(nomeMetodoAnterior);
     }
@@ -198,11 +277,18 @@ public class RegistroArquivo extends Record {
         return ret;
     }
 
+    /**
+     * @deprecated Descobre o campo pelo nome do método chamador, percorrendo a
+     * pilha; use {@link #getValueAsNumber(String)}.
+     */
+    @Deprecated
     public Number getValueAsNumber() {
-        //TODO: Melhorar isso; perda de performance
         String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
-        /* Propriedade a ser setada é o nome do metodo que chamou */
-        Object value = this.getValue(nomeMetodoAnterior);
+        return getValueAsNumber(nomeMetodoAnterior);
+    }
+
+    public Number getValueAsNumber(String nomefield) {
+        Object value = this.getValue(nomefield);
         Number ret = null;
         if (value != null) {
             if (value instanceof Number) {
@@ -214,12 +300,15 @@ public class RegistroArquivo extends Record {
         return ret;
     }
 
+    /**
+     * @deprecated Descobre o campo pelo nome do método chamador, percorrendo a
+     * pilha; use {@link #setVal(String, Object)}.
+     */
+    @Deprecated
     protected RegistroArquivo setValue(Object valor) {
-        //TODO: Melhorar isso; perda de performance
         String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
         /* Propriedade a ser setada é o nome do metodo que chamou */
-        this.setValue(nomeMetodoAnterior, valor);
-        return this;
+        return setVal(nomeMetodoAnterior, valor);
     }
 
     private void add(TagLayout l) {
@@ -326,20 +415,14 @@ public class RegistroArquivo extends Record {
     }
 
     public boolean checkIds(String linha) {
-        FixedField<String> id = null;
-        FixedField<String> idType = this.getIdType();
-        try {
-            id = this.getId(linha);
-        } catch (Exception e) {
-
-        }
-        boolean ret = idType != null && idType.equalsValue(id);
+        boolean ret = linha != null && this.matchesId(linha);
         if (ret) {
             if (extraIds != null) {
                 for (FixedField ff : extraIds) {
-                    FixedField<String> lval = this.get(ff, linha);
-                    ret = ret && ff.equalsValue(lval);
-                    //Break para melhorar a performance
+                    if (!this.matches(ff, linha)) {
+                        //Break para melhorar a performance
+                        return false;
+                    }
                 }
             }
         }
@@ -347,6 +430,6 @@ public class RegistroArquivo extends Record {
     }
 
     public String movimentoCodigo() {
-        return getValue(fmovimentoCodigo().nome);
+        return getValue(MOVIMENTO_CODIGO);
     }
 }
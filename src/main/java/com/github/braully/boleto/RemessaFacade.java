@@ -15,6 +15,14 @@
  */
 package com.github.braully.boleto;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.apache.log4j.Logger;
 
 /**
@@ -110,6 +118,25 @@ public class RemessaFacade extends ArquivoFacade {
         return novoRegistro;
     }
 
+    /**
+     * Escritor incremental da remessa no <code>writer</code>: os registros
+     * adicionados ao escritor são renderizados diretamente, sem passar pelos
+     * registros desta fachada, e o <code>Writer</code> é fechado junto com o
+     * escritor.
+     */
+    public EscritorRemessa escritor(Writer writer) {
+        return new EscritorRemessa(this, writer instanceof BufferedWriter
+                ? writer : new BufferedWriter(writer));
+    }
+
+    public EscritorRemessa escritor(OutputStream out, Charset charset) {
+        return escritor(new OutputStreamWriter(out, charset));
+    }
+
+    public EscritorRemessa escritor(Path arquivo, Charset charset) throws IOException {
+        return escritor(Files.newBufferedWriter(arquivo, charset));
+    }
+
     public RegistroArquivo novoRegistro(String tipoRegistro) {
         TagLayout layoutRegistro = template.get(tipoRegistro);
         if (layoutRegistro == null) {
@@ -15,8 +15,25 @@
  */
 package com.github.braully.boleto;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Format;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  *
@@ -24,6 +41,12 @@ import java.util.List;
  */
 public class RetornoFacade extends ArquivoFacade {
 
+    /**
+     * Quantidade de linhas abaixo da qual um bloco da leitura paralela não é
+     * mais dividido.
+     */
+    static final int LINHAS_POR_BLOCO = 1024;
+
     public RetornoFacade(TagLayout template) {
         this.template = template;
     }
@@ -65,4 +88,201 @@ public class RetornoFacade extends ArquivoFacade {
     public RegistroArquivo rodape() {
         return this.get("rodape");
     }
+
+    /**
+     * Leitura sob demanda do arquivo de retorno: cada linha é lida e
+     * convertida no seu registro apenas quando consumida, sem acumular as
+     * linhas nem os registros nesta fachada (ver {@link #parse(List)}).
+     *
+     * <p>
+     * Fechar o stream fecha o <code>Reader</code>. Erros de leitura são
+     * lançados como {@link java.io.UncheckedIOException} e linhas não
+     * reconhecidas como {@link IllegalStateException}, no ponto do consumo.
+     * </p>
+     *
+     * @param reader Conteúdo do arquivo de retorno
+     * @return Registros na ordem das linhas
+     */
+    public Stream<RegistroArquivo> stream(Reader reader) {
+        Objects.requireNonNull(reader, "reader");
+        BufferedReader linhas = reader instanceof BufferedReader
+                ? (BufferedReader) reader : new BufferedReader(reader);
+        IndiceRegistros indice = IndiceRegistros.de(this.template);
+        return linhas.lines()
+                .map(linha -> lerRegistro(indice, linha))
+                .onClose(() -> {
+                    try {
+                        linhas.close();
+                    } catch (IOException e) {
+                        logger.warn("Falha ao fechar o arquivo de retorno", e);
+                    }
+                });
+    }
+
+    public Stream<RegistroArquivo> stream(InputStream in, Charset charset) {
+        return stream(new InputStreamReader(in, charset));
+    }
+
+    public Stream<RegistroArquivo> stream(Path arquivo, Charset charset) throws IOException {
+        return stream(Files.newBufferedReader(arquivo, charset));
+    }
+
+    /**
+     * Iterador sob demanda equivalente a {@link #stream(Reader)}; o
+     * <code>Reader</code> deve ser fechado pelo chamador.
+     */
+    public Iterator<RegistroArquivo> iterator(Reader reader) {
+        return stream(reader).iterator();
+    }
+
+    /**
+     * Leitura paralela equivalente a {@link #parse(List)} no
+     * <code>ForkJoinPool</code> comum (ver
+     * {@link #parseParalelo(List, ForkJoinPool)}).
+     */
+    public void parseParalelo(List<String> linhas) {
+        parseParalelo(linhas, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Leitura paralela do arquivo de retorno: as linhas são divididas em
+     * blocos lidos no <code>pool</code> com os mesmos registros do template de
+     * {@link #parse(List)} e os registros são remontados na ordem das linhas.
+     *
+     * <p>
+     * Ao final a estrutura do arquivo é validada: cabeçalho na primeira linha,
+     * rodapé na última e, nos layouts com lotes, cada lote aberto pelo seu
+     * cabeçalho e fechado pelo seu rodapé, sem registros de detalhe fora de um
+     * lote. Linhas não reconhecidas ou estrutura inválida são lançadas como
+     * {@link IllegalStateException} e os registros desta fachada não são
+     * alterados.
+     * </p>
+     *
+     * <p>
+     * Os formatadores dos campos do layout (como um
+     * <code>SimpleDateFormat</code> passado em {@link TagLayout#format(Format)})
+     * não são seguros para uso concorrente, por isso cada bloco lê os seus
+     * registros com clones próprios deles; formatadores imutáveis, como
+     * {@link org.jrimum.utilix.ImmutableDateFormat}, continuam compartilhados.
+     * Um formatador cujo <code>clone()</code> retorne a própria instância deve
+     * ser seguro para uso concorrente.
+     * </p>
+     *
+     * @param linhas Linhas do arquivo de retorno
+     * @param pool Pool onde os blocos são lidos
+     */
+    public void parseParalelo(List<String> linhas, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        List<String> naoNulas = new ArrayList<>(linhas == null ? 0 : linhas.size());
+        if (linhas != null) {
+            for (String linha : linhas) {
+                if (linha != null) {
+                    naoNulas.add(linha);
+                }
+            }
+        }
+        RegistroArquivo[] lidos = new RegistroArquivo[naoNulas.size()];
+        pool.invoke(new LeituraBloco(this, IndiceRegistros.de(this.template), naoNulas, lidos, 0, lidos.length));
+        validarEstrutura(lidos);
+        this.registros.clear();
+        this.linhas.clear();
+        if (linhas != null) {
+            this.linhas.addAll(linhas);
+        }
+        this.registros.addAll(Arrays.asList(lidos));
+    }
+
+    public void parseParalelo(Path arquivo, Charset charset) throws IOException {
+        parseParalelo(Files.readAllLines(arquivo, charset));
+    }
+
+    /**
+     * Confere a ordem dos cabeçalhos, rodapés e lotes, pelos nomes dos
+     * registros do template.
+     */
+    private void validarEstrutura(RegistroArquivo[] lidos) {
+        boolean comCabecalho = template.get("cabecalho") != null;
+        boolean comRodape = template.get("rodape") != null;
+        boolean comLotes = template.get("cabecalhoLote") != null && template.get("rodapeLote") != null;
+        boolean loteAberto = false;
+        for (int i = 0; i < lidos.length; i++) {
+            String nome = lidos[i].getName();
+            if ("cabecalho".equalsIgnoreCase(nome)) {
+                if (i != 0) {
+                    throw erroEstrutura(i, "cabeçalho do arquivo fora da primeira linha");
+                }
+            } else if ("rodape".equalsIgnoreCase(nome)) {
+                if (i != lidos.length - 1) {
+                    throw erroEstrutura(i, "rodapé do arquivo fora da última linha");
+                }
+                if (loteAberto) {
+                    throw erroEstrutura(i, "lote sem rodapé");
+                }
+            } else if (i == 0 && comCabecalho) {
+                throw erroEstrutura(i, "arquivo sem cabeçalho");
+            } else if (!comLotes) {
+                continue;
+            } else if ("cabecalhoLote".equalsIgnoreCase(nome)) {
+                if (loteAberto) {
+                    throw erroEstrutura(i, "lote aberto antes do rodapé do lote anterior");
+                }
+                loteAberto = true;
+            } else if ("rodapeLote".equalsIgnoreCase(nome)) {
+                if (!loteAberto) {
+                    throw erroEstrutura(i, "rodapé de lote sem cabeçalho de lote");
+                }
+                loteAberto = false;
+            } else if (!loteAberto) {
+                throw erroEstrutura(i, "registro " + nome + " fora de um lote");
+            }
+        }
+        if (lidos.length > 0 && comRodape && !"rodape".equalsIgnoreCase(lidos[lidos.length - 1].getName())) {
+            throw erroEstrutura(lidos.length - 1, "arquivo sem rodapé");
+        }
+    }
+
+    private IllegalStateException erroEstrutura(int indice, String motivo) {
+        return new IllegalStateException("Estrutura inválida no retorno, linha " + (indice + 1)
+                + ": " + motivo + " layout=" + this.template);
+    }
+
+    /**
+     * Leitura de um intervalo de linhas, dividido ao meio enquanto for maior
+     * que {@link #LINHAS_POR_BLOCO}; cada registro é gravado na posição da sua
+     * linha. Cada bloco lido usa as suas próprias cópias dos formatadores.
+     */
+    @SuppressWarnings("serial")
+    private static final class LeituraBloco extends RecursiveAction {
+
+        private final RetornoFacade retorno;
+        private final IndiceRegistros indice;
+        private final List<String> linhas;
+        private final RegistroArquivo[] lidos;
+        private final int inicio;
+        private final int fim;
+
+        LeituraBloco(RetornoFacade retorno, IndiceRegistros indice, List<String> linhas,
+                RegistroArquivo[] lidos, int inicio, int fim) {
+            this.retorno = retorno;
+            this.indice = indice;
+            this.linhas = linhas;
+            this.lidos = lidos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LINHAS_POR_BLOCO) {
+                Map<Format, Format> copias = new IdentityHashMap<>();
+                for (int i = inicio; i < fim; i++) {
+                    lidos[i] = retorno.lerRegistro(indice, linhas.get(i), copias);
+                }
+            } else {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new LeituraBloco(retorno, indice, linhas, lidos, inicio, meio),
+                        new LeituraBloco(retorno, indice, linhas, lidos, meio, fim));
+            }
+        }
+    }
 }
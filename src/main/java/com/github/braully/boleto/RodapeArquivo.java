@@ -26,14 +26,14 @@ public class RodapeArquivo extends RegistroArquivo {
     }
 
     public RodapeArquivo quantidadeRegistros(Number valorQuantidade) {
-        return (RodapeArquivo) setValue(valorQuantidade);
+        return (RodapeArquivo) setVal("quantidadeRegistros", valorQuantidade);
     }
 
     public Number quantidadeRegistros() {
-        return getValueAsNumber();
+        return getValueAsNumber("quantidadeRegistros");
     }
 
     public RodapeArquivo valorTotalRegistros(Number valorTotal) {
-        return (RodapeArquivo) setValue(valorTotal);
+        return (RodapeArquivo) setVal("valorTotalRegistros", valorTotal);
     }
 }
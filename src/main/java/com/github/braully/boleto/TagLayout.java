@@ -17,19 +17,20 @@ package com.github.braully.boleto;
 
 import java.io.Serializable;
 import java.text.Format;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
-import org.apache.commons.lang3.SerializationUtils;
 import org.jrimum.domkee.banco.IBanco;
 import org.jrimum.texgit.Fillers;
 import org.jrimum.texgit.IFiller;
+import org.jrimum.utilix.ImmutableDateFormat;
 
 /**
  *
@@ -894,7 +895,7 @@ public class TagLayout implements Serializable {
          * @return
          */
         public static TagLayout fdata() {
-            return field("data").filler(Fillers.ZERO_LEFT).length(8).format(new SimpleDateFormat("ddMMyyyy"));
+            return field("data").filler(Fillers.ZERO_LEFT).length(8).format(ImmutableDateFormat.of("ddMMyyyy"));
         }
 
         public static TagLayout fdataAcrescimo() {
@@ -907,21 +908,21 @@ public class TagLayout implements Serializable {
 
         public static TagLayout fdataGeracao() {
             return field("dataGeracao").type(Date.class)
-                    .format(new SimpleDateFormat("ddMMyyyy"))
+                    .format(ImmutableDateFormat.of("ddMMyyyy"))
                     .length(8)
                     .filler(Fillers.ZERO_LEFT).value(0);
         }
 
         public static TagLayout fdataOcorrencia() {
-            return field("dataOcorrencia").length(8).format(new SimpleDateFormat("ddMMyyyy"));
+            return field("dataOcorrencia").length(8).format(ImmutableDateFormat.of("ddMMyyyy"));
         }
 
         public static TagLayout fdataCredito() {
-            return field("dataCredito").length(8).format(new SimpleDateFormat("ddMMyyyy"));
+            return field("dataCredito").length(8).format(ImmutableDateFormat.of("ddMMyyyy"));
         }
 
         public static TagLayout fdataVencimento() {
-            return field("dataVencimento").length(8).format(new SimpleDateFormat("ddMMyyyy"));
+            return field("dataVencimento").length(8).format(ImmutableDateFormat.of("ddMMyyyy"));
         }
 
         /**
@@ -932,104 +933,99 @@ public class TagLayout implements Serializable {
          * @return
          */
         public static TagLayout fdataPagamento() {
-            return field("dataPagamento").filler(Fillers.ZERO_LEFT).length(8).format(new SimpleDateFormat("ddMMyyyy"));
+            return field("dataPagamento").filler(Fillers.ZERO_LEFT).length(8).format(ImmutableDateFormat.of("ddMMyyyy"));
         }
 
         public static TagLayout cabecalho(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("cabecalho").with(filhos);
         }
 
         public static TagLayout cabecalhoLote(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("cabecalhoLote").with(filhos);
         }
 
         public static TagLayout titulo(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("titulo").with(filhos);
         }
 
         public static TagLayout detalheSegmentoJ(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoJ").with(filhos);
         }
 
         public static TagLayout detalheSegmentoJ52(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoJ52").with(filhos);
         }
 
         public static TagLayout detalheSegmentoU(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoU").with(filhos);
         }
 
         public static TagLayout detalheSegmentoT(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoT").with(filhos);
         }
 
         public static TagLayout detalheSegmentoP(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoP").with(filhos);
         }
 
         public static TagLayout detalheSegmentoQ(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoQ").with(filhos);
         }
 
         public static TagLayout detalheSegmentoR(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalheSegmentoR").with(filhos);
         }
 
         public static TagLayout detalhe(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("detalhe").with(filhos);
         }
 
         public static TagLayout rodape(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("rodape").with(filhos);
         }
 
         public static TagLayout rodapeLote(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("rodapeLote").with(filhos);
         }
 
         public static TagLayout group(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("group").with(filhos);
         }
 
         public static TagLayout descricao(String texto) {
-            return tagin().withValue(texto);
+            return tag("descricao").withValue(texto);
         }
 
         public static TagLayout versao(String texto) {
-            return tagin().withValue(texto);
+            return tag("versao").withValue(texto);
         }
 
         public static TagLayout nome(String texto) {
-            return tagin().withValue(texto);
+            return tag("nome").withValue(texto);
         }
 
         public static TagLayout layout(TagLayout... filhos) {
-            return tagin().with(filhos);
+            return tag("layout").with(filhos);
         }
 
         public static TagLayout banco(IBanco banco) {
-            return tagin().withValue(banco);
+            return tag("banco").withValue(banco);
         }
 
         public static TagLayout banco(String banco) {
-            return tagin().withValue(banco);
+            return tag("banco").withValue(banco);
         }
 
         public static TagLayout servico(CNABServico servico) {
-            return tagin().withValue(servico);
+            return tag("servico").withValue(servico);
         }
 
         public static TagLayout cnab(CNAB cnab) {
-            return tagin().withValue(cnab);
+            return tag("cnab").withValue(cnab);
         }
 
         public static TagLayout flatfile(TagLayout... filhos) {
-            return tagin().with(filhos);
-        }
-
-        private static TagLayout tagin() {
-            String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
-            return tag(nomeMetodoAnterior);
+            return tag("flatfile").with(filhos);
         }
 
         public static TagLayout tag(String nome) {
@@ -1041,6 +1037,12 @@ public class TagLayout implements Serializable {
     Object value;
     List<TagLayout> filhos;
     Map<String, Object> atributos;
+    /* Layouts somente leitura podem guardar estruturas compiladas */
+    transient boolean somenteLeitura;
+    transient volatile IndiceRegistros indiceRegistros;
+    transient volatile RegistroArquivo prototipoRegistro;
+    /* Filhos pelo nome em minúsculas (o primeiro de cada nome), em layouts somente leitura */
+    transient Map<String, TagLayout> filhosPorNome;
 
     public TagLayout nome(String texto) {
         this.nome = texto;
@@ -1052,6 +1054,9 @@ public class TagLayout implements Serializable {
     }
 
     TagLayout get(String strfilho) {
+        if (filhosPorNome != null) {
+            return strfilho == null ? null : filhosPorNome.get(strfilho.toLowerCase(Locale.ROOT));
+        }
         TagLayout fi = null;
         for (TagLayout filho : filhos) {
             if (filho.nome.equalsIgnoreCase(strfilho)) {
@@ -1121,19 +1126,19 @@ public class TagLayout implements Serializable {
     }
 
     public TagLayout type(Class tipo) {
-        return setAttr(tipo);
+        return atr("type", tipo);
     }
 
     public TagLayout filler(IFiller padding) {
-        return setAttr(padding);
+        return atr("filler", padding);
     }
 
     public TagLayout padding(IFiller padding) {
-        return setAttr(padding);
+        return atr("padding", padding);
     }
 
     public TagLayout format(Format padding) {
-        return setAttr(padding);
+        return atr("format", padding);
     }
 
     /**
@@ -1152,24 +1157,24 @@ public class TagLayout implements Serializable {
     }
 
     public TagLayout id(boolean bol) {
-        return setAttr(bol);
+        return atr("id", bol);
     }
 
     public TagLayout truncate(boolean bol) {
-        return setAttr(bol);
+        return atr("truncate", bol);
     }
 
     public TagLayout length(int len) {
-        return setAttr(len);
+        return atr("length", len);
     }
 
     public TagLayout position(int len) {
-        return setAttr(len);
+        return atr("position", len);
     }
 
     //TODO: Unificar com o field Value
     public TagLayout value(Object len) {
-        return setAttr(len);
+        return atr("value", len);
     }
 
     public TagLayout withValue(Object texto) {
@@ -1214,6 +1219,11 @@ public class TagLayout implements Serializable {
         return this;
     }
 
+    /**
+     * @deprecated Descobre o atributo pelo nome do método chamador, percorrendo
+     * a pilha; use {@link #atr(String, Object)}.
+     */
+    @Deprecated
     protected TagLayout setAttr(Object valor) {
         //TODO: Melhorar isso;
         String nomeMetodoAnterior = Thread.currentThread().getStackTrace()[2].getMethodName();
@@ -1222,8 +1232,30 @@ public class TagLayout implements Serializable {
         return this;
     }
 
+    /**
+     * Cópia profunda da árvore de tags; os valores são compartilhados, exceto
+     * formatadores e datas, que são mutáveis e por isso copiados.
+     */
     public TagLayout clone() {
-        return SerializationUtils.clone(this);
+        TagLayout clone = new TagLayout(nome);
+        clone.value = copia(value);
+        for (Map.Entry<String, Object> atributo : atributos.entrySet()) {
+            clone.atributos.put(atributo.getKey(), copia(atributo.getValue()));
+        }
+        for (TagLayout filho : filhos) {
+            clone.filhos.add(filho.clone());
+        }
+        return clone;
+    }
+
+    private static Object copia(Object valor) {
+        if (valor instanceof Format) {
+            return ((Format) valor).clone();
+        }
+        if (valor instanceof Date) {
+            return ((Date) valor).clone();
+        }
+        return valor;
     }
 
     //TODO: Melhorar isso, procurar alguma lib que faça o clone e já transforme o objeto em imutavel
@@ -1234,11 +1266,17 @@ public class TagLayout implements Serializable {
     }
 
     private void colecoesImutaveis(TagLayout clone) {
-        clone.atributos = Collections.unmodifiableMap(clone.atributos);
+        clone.atributos = Collections.unmodifiableMap(new HashMap<>(clone.atributos));
         clone.filhos = Collections.unmodifiableList(clone.filhos);
+        Map<String, TagLayout> porNome = new HashMap<>();
         for (TagLayout tf : clone.filhos) {
             colecoesImutaveis(tf);
+            if (tf.nome != null) {
+                porNome.putIfAbsent(tf.nome.toLowerCase(Locale.ROOT), tf);
+            }
         }
+        clone.filhosPorNome = Collections.unmodifiableMap(porNome);
+        clone.somenteLeitura = true;
     }
 
     @Override
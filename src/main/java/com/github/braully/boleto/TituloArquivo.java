@@ -47,6 +47,30 @@ import org.jrimum.texgit.FixedField;
  */
 public class TituloArquivo extends RegistroArquivo {
 
+    private static final String BAIRRO = fbairro().nome;
+    private static final String CEP = fcep().nome;
+    private static final String CIDADE = fcidade().nome;
+    private static final String CODIGO_BARRAS = fcodigoBarras().nome;
+    private static final String DATA_DESCONTO = fdataDesconto().nome;
+    private static final String DATA_OCORRENCIA = fdataOcorrencia().nome;
+    private static final String ENDERECO = fendereco().nome;
+    private static final String MOVIMENTO_CODIGO = fmovimentoCodigo().nome;
+    private static final String NOSSO_NUMERO = fnossoNumero().nome;
+    private static final String NUMERO_DOCUMENTO = fnumeroDocumento().nome;
+    private static final String OCORRENCIAS = focorrencias().nome;
+    private static final String REJEICOES = frejeicoes().nome;
+    private static final String SACADO_CPF = fsacadoCpf().nome;
+    private static final String SACADO_NOME = fsacadoNome().nome;
+    private static final String SEGMENTO = fsegmento().nome;
+    private static final String UF = fuf().nome;
+    private static final String VALOR = fvalor().nome;
+    private static final String VALOR_ACRESCIMO = fvalorAcrescimo().nome;
+    private static final String VALOR_DESCONTO = fvalorDesconto().nome;
+    private static final String VALOR_LIQUIDO = fvalorLiquido().nome;
+    private static final String VALOR_OCORRENCIA = fvalorOcorrencia().nome;
+    private static final String VALOR_PAGAMENTO = fvalorPagamento().nome;
+    private static final String VALOR_TARIFA_CUSTAS = fvalorTarifaCustas().nome;
+
     public TituloArquivo(TagLayout get) {
         super(get);
     }
@@ -59,6 +83,7 @@ public class TituloArquivo extends RegistroArquivo {
         this.extraIds = reg.extraIds;
         this.fields = (ArrayList<FixedField<?>>) reg.getFields();
         this.layoutRegistro = reg.layoutRegistro;
+        this.fieldIndex = reg.getFieldIndex();
     }
 
     /* 
@@ -70,48 +95,48 @@ public class TituloArquivo extends RegistroArquivo {
                 .instrucao("");
      */
     public TituloArquivo sacado(String nome, String cpf) {
-        setValue(fsacadoNome().nome, nome).setValue(fsacadoCpf().nome, cpf);
+        setValue(SACADO_NOME, nome).setValue(SACADO_CPF, cpf);
         return this;
     }
 
     public String sacadoCpf() {
-        return getValue(fsacadoCpf().nome);
+        return getValue(SACADO_CPF);
     }
 
     public TituloArquivo valor(Object string) {
-        return (TituloArquivo) setValue(fvalor().nome, string);
+        return (TituloArquivo) setValue(VALOR, string);
     }
 
     public String valor() {
-        return getValue(fvalor().nome);
+        return getValue(VALOR);
     }
 
     public TituloArquivo valorDesconto(Object string) {
-        return (TituloArquivo) setValue(fvalorDesconto().nome, string);
+        return (TituloArquivo) setValue(VALOR_DESCONTO, string);
     }
 
     public String valorDesconto() {
-        return getValue(fvalorDesconto().nome);
+        return getValue(VALOR_DESCONTO);
     }
 
     public TituloArquivo valorAcrescimo(Object string) {
-        return (TituloArquivo) setValue(fvalorAcrescimo().nome, string);
+        return (TituloArquivo) setValue(VALOR_ACRESCIMO, string);
     }
 
     public TituloArquivo dataAcrescimo(Object string) {
-        return (TituloArquivo) setValue(fvalorAcrescimo().nome, string);
+        return (TituloArquivo) setValue(VALOR_ACRESCIMO, string);
     }
 
     public TituloArquivo dataDesconto(Object string) {
-        return (TituloArquivo) setValue(fdataDesconto().nome, string);
+        return (TituloArquivo) setValue(DATA_DESCONTO, string);
     }
 
     public String valorAcrescimo() {
-        return getValue(fvalorAcrescimo().nome);
+        return getValue(VALOR_ACRESCIMO);
     }
 
     public TituloArquivo vencimento(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("vencimento", string);
     }
 
     public String vencimento() {
@@ -119,19 +144,19 @@ public class TituloArquivo extends RegistroArquivo {
     }
 
     public TituloArquivo numeroDocumento(Object string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("numeroDocumento", string);
     }
 
     public String numeroDocumento() {
-        return getValue(fnumeroDocumento().nome);
+        return getValue(NUMERO_DOCUMENTO);
     }
 
     public TituloArquivo codigoBarras(String codigoBarras) {
-        return (TituloArquivo) setVal(fcodigoBarras().nome, codigoBarras);
+        return (TituloArquivo) setVal(CODIGO_BARRAS, codigoBarras);
     }
 
     public TituloArquivo nossoNumero(Object string) {
-        return (TituloArquivo) setValue(fnossoNumero().nome, string);
+        return (TituloArquivo) setValue(NOSSO_NUMERO, string);
     }
 
     /**
@@ -139,7 +164,7 @@ public class TituloArquivo extends RegistroArquivo {
      * com.​github.​braully.​boleto.​TagLayout.​TagCreator.fmovimentoCodigo()
      */
     public TituloArquivo movimentoCodigo(Object string) {
-        return (TituloArquivo) setValue(fmovimentoCodigo().nome, string);
+        return (TituloArquivo) setValue(MOVIMENTO_CODIGO, string);
     }
 
     public String nossoNumero() {
@@ -147,47 +172,47 @@ public class TituloArquivo extends RegistroArquivo {
     }
 
     public TituloArquivo dataVencimento(Object vencimento) {
-        return (TituloArquivo) setValue(vencimento);
+        return (TituloArquivo) setVal("dataVencimento", vencimento);
     }
 
     public TituloArquivo dataGeracao(Object emissao) {
-        return (TituloArquivo) setValue(emissao);
+        return (TituloArquivo) setVal("dataGeracao", emissao);
     }
 
     public TituloArquivo dataEmissao(Object emissao) {
-        return (TituloArquivo) setValue(emissao);
+        return (TituloArquivo) setVal("dataEmissao", emissao);
     }
 
     public String dataOcorrencia(Object emissao) {
-        return getValue(fdataOcorrencia().nome);
+        return getValue(DATA_OCORRENCIA);
     }
 
     public Number valorOcorrencia(Object string) {
-        return getValue(fvalorOcorrencia().nome);
+        return getValue(VALOR_OCORRENCIA);
     }
 
     public String ocorrencias(Object string) {
-        return getValue(focorrencias().nome);
+        return getValue(OCORRENCIAS);
     }
 
     public String segmento() {
-        return getValue(fsegmento().nome);
+        return getValue(SEGMENTO);
     }
 
     public TituloArquivo carteira(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("carteira", string);
     }
 
     public TituloArquivo sacado(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("sacado", string);
     }
 
     public TituloArquivo sacadoCpf(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("sacadoCpf", string);
     }
 
     public TituloArquivo sacadoEndereco(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("sacadoEndereco", string);
     }
 
     /**
@@ -200,37 +225,37 @@ public class TituloArquivo extends RegistroArquivo {
      * @return
      */
     public TituloArquivo sacadoEndereco(String endereco, String bairro, String cep, String cidade, String uf) {
-        return (TituloArquivo) setValue(fendereco().nome, endereco)
-                .setValue(fbairro().nome, bairro)
-                .setValue(fcep().nome, cep)
-                .setValue(fcidade().nome, cidade)
-                .setValue(fuf().nome, uf);
+        return (TituloArquivo) setValue(ENDERECO, endereco)
+                .setValue(BAIRRO, bairro)
+                .setValue(CEP, cep)
+                .setValue(CIDADE, cidade)
+                .setValue(UF, uf);
     }
 
     public TituloArquivo instrucao(String string) {
-        return (TituloArquivo) setValue(string);
+        return (TituloArquivo) setVal("instrucao", string);
     }
 
     public String valorPagamento() {
-        return getValue(fvalorPagamento().nome);
+        return getValue(VALOR_PAGAMENTO);
     }
 
     public String valorLiquido() {
-        return getValue(fvalorLiquido().nome);
+        return getValue(VALOR_LIQUIDO);
     }
 
     public String dataOcorrencia() {
-        return getValue(fdataOcorrencia().nome);
+        return getValue(DATA_OCORRENCIA);
     }
 
 //    public String valorDesconto() {
 //        return getValue(fvalorDesconto().nome);
 //    }
     public String rejeicoes() {
-        return getValue(frejeicoes().nome);
+        return getValue(REJEICOES);
     }
 
     public String valorTarifaCustas() {
-        return getValue(fvalorTarifaCustas().nome);
+        return getValue(VALOR_TARIFA_CUSTAS);
     }
 }
@@ -38,6 +38,8 @@ import static org.apache.commons.lang3.StringUtils.trim;
 import static org.jrimum.utilix.Objects.checkNotNull;
 import static org.jrimum.utilix.Strings.WHITE_SPACE;
 
+import java.util.Collection;
+
 import org.jrimum.utilix.Exceptions;
 import org.jrimum.vallia.BoletoLinhaDigitavelDV;
 
@@ -682,6 +684,48 @@ public final class BoletoUtil {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Valida e decodifica em lote códigos de barras e linhas digitáveis
+	 * (numéricas ou formatadas), em qualquer combinação, conferindo também os
+	 * dígitos verificadores de cada entrada.
+	 * </p>
+	 * 
+	 * <p>
+	 * Ao contrário dos métodos individuais, entradas inválidas não lançam
+	 * exceção: a situação de cada uma é informada no resultado.
+	 * </p>
+	 * 
+	 * @param codigos
+	 *            códigos de barras ou linhas digitáveis
+	 * @return resultado na mesma ordem das entradas
+	 * 
+	 * @since 0.2.3
+	 */
+	public static CodigosDecodificados decodifiqueEmLote(CharSequence... codigos) {
+
+		checkNotNull(codigos, "Códigos nulos!");
+
+		return new CodigosDecodificados(codigos);
+	}
+
+	/**
+	 * @see #decodifiqueEmLote(CharSequence...)
+	 * 
+	 * @param codigos
+	 *            códigos de barras ou linhas digitáveis
+	 * @return resultado na ordem de iteração das entradas
+	 * 
+	 * @since 0.2.3
+	 */
+	public static CodigosDecodificados decodifiqueEmLote(
+			Collection<? extends CharSequence> codigos) {
+
+		checkNotNull(codigos, "Códigos nulos!");
+
+		return new CodigosDecodificados(codigos);
+	}
+
 	/**
 	 * <p>
 	 * Verifica se a linha digitável <strong>não é nula</strong>, <strong>não é
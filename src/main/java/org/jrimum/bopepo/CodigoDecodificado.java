@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Created at: 18/10/2026 - 23:58:12
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões
+ * e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 23:58:12
+ *
+ */
+package org.jrimum.bopepo;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import org.jrimum.utilix.Exceptions;
+
+/**
+ * <p>
+ * Código de barras de um boleto já lido e validado, guardado em quatro campos
+ * primitivos (24 bytes) em vez de uma <code>String</code> de 44 caracteres ou
+ * de um {@link Boleto} completo. Imutável, com <code>equals</code> e
+ * <code>hashCode</code> pelo código de barras, serve de chave em mapas e
+ * conjuntos na conciliação e na eliminação de duplicados de grandes volumes
+ * de boletos pagos.
+ * </p>
+ *
+ * <p>
+ * Os campos são lidos sem criar objetos; apenas o campo livre e o código de
+ * barras, quando pedidos como <code>String</code>, são montados sob demanda.
+ * </p>
+ *
+ * @see CodigosDecodificados#get(int)
+ *
+ * @since 0.2.3
+ */
+public final class CodigoDecodificado implements Serializable {
+
+	private static final long serialVersionUID = 2381406113279046542L;
+
+	private static final int TAMANHO_CAMPO_LIVRE = 25;
+
+	/**
+	 * Dígitos do campo livre guardados em {@link #campoLivreBaixo}.
+	 */
+	private static final int DIGITOS_CAMPO_LIVRE_BAIXO = 18;
+
+	/**
+	 * Banco (3 dígitos), moeda, DV geral e fator de vencimento (4 dígitos),
+	 * nessa ordem: os 9 primeiros dígitos do código de barras, sem o valor.
+	 */
+	private final int cabecalho;
+
+	private final long valorEmCentavos;
+
+	/**
+	 * 7 primeiros dígitos do campo livre.
+	 */
+	private final int campoLivreAlto;
+
+	/**
+	 * 18 últimos dígitos do campo livre.
+	 */
+	private final long campoLivreBaixo;
+
+	private CodigoDecodificado(int cabecalho, long valorEmCentavos, int campoLivreAlto, long campoLivreBaixo) {
+
+		this.cabecalho = cabecalho;
+		this.valorEmCentavos = valorEmCentavos;
+		this.campoLivreAlto = campoLivreAlto;
+		this.campoLivreBaixo = campoLivreBaixo;
+	}
+
+	/**
+	 * <p>
+	 * Lê e valida um código de barras ou uma linha digitável (numérica ou
+	 * formatada), conferindo os dígitos verificadores.
+	 * </p>
+	 *
+	 * @param codigo código de barras ou linha digitável
+	 * @return código decodificado
+	 *
+	 * @throws IllegalArgumentException se o formato ou algum dígito
+	 * verificador é inválido
+	 */
+	public static CodigoDecodificado valueOf(CharSequence codigo) {
+
+		CodigosDecodificados lote = BoletoUtil.decodifiqueEmLote(codigo);
+		if (!lote.isValido(0)) {
+			Exceptions.throwIllegalArgumentException(String.format(
+					"Código [%s] inválido: %s!", codigo, lote.getSituacao(0)));
+		}
+		return lote.get(0);
+	}
+
+	/**
+	 * Lê o código de barras de 44 dígitos ASCII, já validado, em
+	 * <code>origem[inicio]</code>.
+	 */
+	static CodigoDecodificado of(char[] origem, int inicio) {
+
+		return new CodigoDecodificado(
+				(int) numero(origem, inicio, 9),
+				numero(origem, inicio + 9, 10),
+				(int) numero(origem, inicio + 19, TAMANHO_CAMPO_LIVRE - DIGITOS_CAMPO_LIVRE_BAIXO),
+				numero(origem, inicio + 19 + TAMANHO_CAMPO_LIVRE - DIGITOS_CAMPO_LIVRE_BAIXO, DIGITOS_CAMPO_LIVRE_BAIXO));
+	}
+
+	/**
+	 * @return código de compensação do banco
+	 */
+	public int getCodigoDoBanco() {
+
+		return cabecalho / 1000000;
+	}
+
+	/**
+	 * @return código da moeda
+	 */
+	public int getCodigoDaMoeda() {
+
+		return cabecalho / 100000 % 10;
+	}
+
+	/**
+	 * @return dígito verificador geral
+	 */
+	public int getDigitoVerificadorGeral() {
+
+		return cabecalho / 10000 % 10;
+	}
+
+	/**
+	 * @return fator de vencimento
+	 */
+	public int getFatorDeVencimento() {
+
+		return cabecalho % 10000;
+	}
+
+	/**
+	 * @return valor do título em centavos
+	 */
+	public long getValorEmCentavos() {
+
+		return valorEmCentavos;
+	}
+
+	/**
+	 * @return valor do título com duas casas decimais
+	 */
+	public BigDecimal getValor() {
+
+		return BigDecimal.valueOf(valorEmCentavos, 2);
+	}
+
+	/**
+	 * @return campo livre (25 dígitos)
+	 */
+	public String getCampoLivre() {
+
+		char[] campoLivre = new char[TAMANHO_CAMPO_LIVRE];
+		copieCampoLivre(campoLivre, 0);
+		return new String(campoLivre);
+	}
+
+	/**
+	 * <p>
+	 * Escreve os 25 dígitos do campo livre em <code>destino</code>, sem criar
+	 * objetos.
+	 * </p>
+	 *
+	 * @param destino vetor de destino
+	 * @param posicao posição inicial no destino
+	 */
+	public void copieCampoLivre(char[] destino, int posicao) {
+
+		escreva(destino, posicao, campoLivreAlto, TAMANHO_CAMPO_LIVRE - DIGITOS_CAMPO_LIVRE_BAIXO);
+		escreva(destino, posicao + TAMANHO_CAMPO_LIVRE - DIGITOS_CAMPO_LIVRE_BAIXO, campoLivreBaixo, DIGITOS_CAMPO_LIVRE_BAIXO);
+	}
+
+	/**
+	 * <p>
+	 * Compara o campo livre com os 25 dígitos em <code>campoLivre</code>, sem
+	 * criar objetos.
+	 * </p>
+	 *
+	 * @param campoLivre campo livre
+	 * @return <code>true</code> se forem iguais
+	 */
+	public boolean isCampoLivre(CharSequence campoLivre) {
+
+		if (campoLivre == null || campoLivre.length() != TAMANHO_CAMPO_LIVRE) {
+			return false;
+		}
+		long alto = 0;
+		long baixo = 0;
+		for (int i = 0; i < TAMANHO_CAMPO_LIVRE; i++) {
+			char c = campoLivre.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+			if (i < TAMANHO_CAMPO_LIVRE - DIGITOS_CAMPO_LIVRE_BAIXO) {
+				alto = alto * 10 + (c - '0');
+			} else {
+				baixo = baixo * 10 + (c - '0');
+			}
+		}
+		return alto == campoLivreAlto && baixo == campoLivreBaixo;
+	}
+
+	/**
+	 * @return código de barras (44 dígitos)
+	 */
+	public String getCodigoDeBarras() {
+
+		char[] codigo = new char[CodigosDecodificados.TAMANHO_CODIGO_DE_BARRAS];
+		escreva(codigo, 0, cabecalho, 9);
+		escreva(codigo, 9, valorEmCentavos, 10);
+		copieCampoLivre(codigo, 19);
+		return new String(codigo);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hash = cabecalho;
+		hash = 31 * hash + Long.hashCode(valorEmCentavos);
+		hash = 31 * hash + campoLivreAlto;
+		hash = 31 * hash + Long.hashCode(campoLivreBaixo);
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CodigoDecodificado)) {
+			return false;
+		}
+		CodigoDecodificado outro = (CodigoDecodificado) obj;
+		return cabecalho == outro.cabecalho
+				&& valorEmCentavos == outro.valorEmCentavos
+				&& campoLivreAlto == outro.campoLivreAlto
+				&& campoLivreBaixo == outro.campoLivreBaixo;
+	}
+
+	/**
+	 * @return código de barras
+	 */
+	@Override
+	public String toString() {
+
+		return getCodigoDeBarras();
+	}
+
+	private static long numero(char[] origem, int inicio, int tamanho) {
+
+		long numero = 0;
+		for (int k = inicio; k < inicio + tamanho; k++) {
+			numero = numero * 10 + (origem[k] - '0');
+		}
+		return numero;
+	}
+
+	/**
+	 * Escreve <code>numero</code> com <code>digitos</code> dígitos, completando
+	 * com zeros à esquerda.
+	 */
+	private static void escreva(char[] destino, int posicao, long numero, int digitos) {
+
+		for (int k = posicao + digitos - 1; k >= posicao; k--) {
+			destino[k] = (char) ('0' + numero % 10);
+			numero /= 10;
+		}
+	}
+}
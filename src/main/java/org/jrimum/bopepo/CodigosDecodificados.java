@@ -0,0 +1,488 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Created at: 18/10/2026 - 23:20:41
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões
+ * e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 23:20:41
+ *
+ */
+package org.jrimum.bopepo;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jrimum.vallia.Modulo;
+
+/**
+ * <p>
+ * Resultado da validação e conversão em lote de códigos de barras (44
+ * dígitos), linhas digitáveis numéricas (47 dígitos) e linhas digitáveis
+ * formatadas (54 caracteres) de boletos.
+ * </p>
+ *
+ * <p>
+ * Cada entrada é lida uma única vez, sem expressões regulares nem
+ * <code>substring</code>: o seu código de barras é gravado em um único buffer
+ * de caracteres compartilhado por todo o lote, os dígitos verificadores são
+ * conferidos pelos cálculos de {@link Modulo} sobre esse buffer e os campos
+ * numéricos ficam em vetores de primitivos, consultados pela posição da
+ * entrada. Apenas os métodos que retornam <code>String</code> criam objetos.
+ * </p>
+ *
+ * <p>
+ * Assim como em {@link BoletoUtil}, espaços nas extremidades das entradas são
+ * ignorados.
+ * </p>
+ *
+ * @see BoletoUtil#decodifiqueEmLote(CharSequence...)
+ * @see CodigoDecodificado
+ *
+ * @since 0.2.3
+ */
+public final class CodigosDecodificados {
+
+	/**
+	 * <p>
+	 * Situação de cada entrada do lote.
+	 * </p>
+	 */
+	public enum Situacao {
+
+		/**
+		 * Formato e dígitos verificadores corretos.
+		 */
+		VALIDO,
+
+		/**
+		 * Entrada nula ou fora dos formatos de código de barras e de linha
+		 * digitável.
+		 */
+		FORMATO_INVALIDO,
+
+		/**
+		 * Formato correto, mas algum dígito verificador (dos campos da linha
+		 * digitável ou o geral) não confere.
+		 */
+		DIGITO_VERIFICADOR_INVALIDO
+	}
+
+	static final int TAMANHO_CODIGO_DE_BARRAS = 44;
+	static final int TAMANHO_LINHA_NUMERICA = 47;
+	static final int TAMANHO_LINHA_FORMATADA = 54;
+
+	private static final Situacao[] SITUACOES = Situacao.values();
+
+	/**
+	 * Posição de cada caractere da linha formatada na linha numérica ou -1
+	 * para os separadores, com o separador esperado em
+	 * {@link #SEPARADORES_FORMATADA}.
+	 */
+	private static final int[] POSICOES_FORMATADA = new int[TAMANHO_LINHA_FORMATADA];
+	private static final char[] SEPARADORES_FORMATADA = new char[TAMANHO_LINHA_FORMATADA];
+
+	static {
+		String padrao = "ddddd.ddddd ddddd.dddddd ddddd.dddddd d dddddddddddddd";
+		for (int i = 0, n = 0; i < TAMANHO_LINHA_FORMATADA; i++) {
+			char c = padrao.charAt(i);
+			POSICOES_FORMATADA[i] = (c == 'd') ? n++ : -1;
+			SEPARADORES_FORMATADA[i] = c;
+		}
+	}
+
+	private final int quantidade;
+
+	private final byte[] situacoes;
+
+	/**
+	 * Códigos de barras de todas as entradas, 44 caracteres por entrada.
+	 */
+	private final char[] codigos;
+
+	private final short[] bancos;
+
+	private final byte[] moedas;
+
+	private final short[] fatores;
+
+	private final long[] valores;
+
+	/*
+	 * Estado da leitura, reaproveitado entre as entradas.
+	 */
+
+	private final char[] linha = new char[TAMANHO_LINHA_NUMERICA];
+
+	private final char[] semDV = new char[TAMANHO_CODIGO_DE_BARRAS - 1];
+
+	private final CharBuffer janelaLinha = CharBuffer.wrap(linha);
+
+	private final CharBuffer janelaSemDV = CharBuffer.wrap(semDV);
+
+	CodigosDecodificados(CharSequence[] entradas) {
+
+		this(entradas.length);
+		for (int i = 0; i < quantidade; i++) {
+			decodifique(i, entradas[i]);
+		}
+	}
+
+	CodigosDecodificados(Collection<? extends CharSequence> entradas) {
+
+		this(entradas.size());
+		int i = 0;
+		for (CharSequence entrada : entradas) {
+			decodifique(i++, entrada);
+		}
+	}
+
+	private CodigosDecodificados(int quantidade) {
+
+		this.quantidade = quantidade;
+		this.situacoes = new byte[quantidade];
+		this.codigos = new char[quantidade * TAMANHO_CODIGO_DE_BARRAS];
+		this.bancos = new short[quantidade];
+		this.moedas = new byte[quantidade];
+		this.fatores = new short[quantidade];
+		this.valores = new long[quantidade];
+	}
+
+	/**
+	 * @return quantidade de entradas do lote
+	 */
+	public int getQuantidade() {
+
+		return quantidade;
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return situação da entrada
+	 */
+	public Situacao getSituacao(int i) {
+
+		return SITUACOES[situacoes[i]];
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return <code>true</code> se formato e dígitos verificadores conferem
+	 */
+	public boolean isValido(int i) {
+
+		return situacoes[i] == Situacao.VALIDO.ordinal();
+	}
+
+	/**
+	 * @return quantidade de entradas válidas
+	 */
+	public int getQuantidadeDeValidos() {
+
+		int validos = 0;
+		for (byte situacao : situacoes) {
+			if (situacao == Situacao.VALIDO.ordinal()) {
+				validos++;
+			}
+		}
+		return validos;
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return código decodificado da entrada ou <code>null</code> se ela não
+	 * é válida
+	 */
+	public CodigoDecodificado get(int i) {
+
+		return isValido(i) ? CodigoDecodificado.of(codigos, i * TAMANHO_CODIGO_DE_BARRAS) : null;
+	}
+
+	/**
+	 * Os campos numéricos e os códigos das entradas com formato inválido são
+	 * zero ou vazios.
+	 *
+	 * @param i posição da entrada no lote
+	 * @return código de compensação do banco
+	 */
+	public int getCodigoDoBanco(int i) {
+
+		return bancos[i];
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return código da moeda
+	 */
+	public int getCodigoDaMoeda(int i) {
+
+		return moedas[i];
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return fator de vencimento
+	 */
+	public int getFatorDeVencimento(int i) {
+
+		return fatores[i];
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return valor do título em centavos
+	 */
+	public long getValorEmCentavos(int i) {
+
+		return valores[i];
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return dígito verificador geral do código de barras ou -1 se o formato
+	 * é inválido
+	 */
+	public int getDigitoVerificadorGeral(int i) {
+
+		return temFormato(i) ? codigos[i * TAMANHO_CODIGO_DE_BARRAS + 4] - '0' : -1;
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return campo livre (25 dígitos) ou <code>null</code> se o formato é
+	 * inválido
+	 */
+	public String getCampoLivre(int i) {
+
+		return temFormato(i) ? new String(codigos, i * TAMANHO_CODIGO_DE_BARRAS + 19, 25) : null;
+	}
+
+	/**
+	 * <p>
+	 * Copia os 25 dígitos do campo livre para <code>destino</code>, sem criar
+	 * objetos.
+	 * </p>
+	 *
+	 * @param i posição da entrada no lote
+	 * @param destino vetor de destino
+	 * @param posicao posição inicial no destino
+	 */
+	public void copieCampoLivre(int i, char[] destino, int posicao) {
+
+		System.arraycopy(codigos, i * TAMANHO_CODIGO_DE_BARRAS + 19, destino, posicao, 25);
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return código de barras (44 dígitos) ou <code>null</code> se o formato é
+	 * inválido
+	 */
+	public String getCodigoDeBarras(int i) {
+
+		return temFormato(i) ? new String(codigos, i * TAMANHO_CODIGO_DE_BARRAS, TAMANHO_CODIGO_DE_BARRAS) : null;
+	}
+
+	/**
+	 * @param i posição da entrada no lote
+	 * @return linha digitável numérica (47 dígitos), com os dígitos
+	 * verificadores dos campos calculados, ou <code>null</code> se a entrada
+	 * não é válida
+	 */
+	public String getLinhaDigitavel(int i) {
+
+		if (!isValido(i)) {
+			return null;
+		}
+		char[] l = new char[TAMANHO_LINHA_NUMERICA];
+		int c = i * TAMANHO_CODIGO_DE_BARRAS;
+		System.arraycopy(codigos, c, l, 0, 4);
+		System.arraycopy(codigos, c + 19, l, 4, 5);
+		l[9] = digitoDoCampo(codigos, c + 19, 5, c, 4);
+		System.arraycopy(codigos, c + 24, l, 10, 10);
+		l[20] = digitoDoCampo(codigos, c + 24, 10, 0, 0);
+		System.arraycopy(codigos, c + 34, l, 21, 10);
+		l[31] = digitoDoCampo(codigos, c + 34, 10, 0, 0);
+		l[32] = codigos[c + 4];
+		System.arraycopy(codigos, c + 5, l, 33, 14);
+		return new String(l);
+	}
+
+	/**
+	 * Dígito de um campo da linha digitável formado pelos <code>prefixo</code>
+	 * dígitos em <code>inicioPrefixo</code> seguidos de <code>tamanho</code>
+	 * dígitos em <code>inicio</code>.
+	 */
+	private static char digitoDoCampo(char[] origem, int inicio, int tamanho, int inicioPrefixo, int prefixo) {
+
+		char[] campo = new char[prefixo + tamanho];
+		System.arraycopy(origem, inicioPrefixo, campo, 0, prefixo);
+		System.arraycopy(origem, inicio, campo, prefixo, tamanho);
+		return (char) ('0' + dvCampo(Modulo.calculeMod10(CharBuffer.wrap(campo), 1, 2)));
+	}
+
+	private boolean temFormato(int i) {
+
+		return situacoes[i] != Situacao.FORMATO_INVALIDO.ordinal();
+	}
+
+	/*
+	 * Leitura
+	 */
+
+	private void decodifique(int i, CharSequence entrada) {
+
+		Situacao situacao = leia(i, entrada);
+		if (situacao != Situacao.FORMATO_INVALIDO) {
+			int c = i * TAMANHO_CODIGO_DE_BARRAS;
+			bancos[i] = (short) numero(codigos, c, 3);
+			moedas[i] = (byte) numero(codigos, c + 3, 1);
+			fatores[i] = (short) numero(codigos, c + 5, 4);
+			valores[i] = numero(codigos, c + 9, 10);
+			if (situacao == Situacao.VALIDO && !dvGeralConfere(c)) {
+				situacao = Situacao.DIGITO_VERIFICADOR_INVALIDO;
+			}
+		} else {
+			Arrays.fill(codigos, i * TAMANHO_CODIGO_DE_BARRAS, (i + 1) * TAMANHO_CODIGO_DE_BARRAS, '\0');
+		}
+		situacoes[i] = (byte) situacao.ordinal();
+	}
+
+	/**
+	 * Grava o código de barras da entrada no buffer do lote e confere os
+	 * dígitos verificadores dos campos, se for uma linha digitável.
+	 */
+	private Situacao leia(int i, CharSequence entrada) {
+
+		if (entrada == null) {
+			return Situacao.FORMATO_INVALIDO;
+		}
+		int inicio = 0;
+		int fim = entrada.length();
+		while (inicio < fim && entrada.charAt(inicio) <= ' ') {
+			inicio++;
+		}
+		while (fim > inicio && entrada.charAt(fim - 1) <= ' ') {
+			fim--;
+		}
+		int c = i * TAMANHO_CODIGO_DE_BARRAS;
+		switch (fim - inicio) {
+
+		case TAMANHO_CODIGO_DE_BARRAS:
+			for (int k = 0; k < TAMANHO_CODIGO_DE_BARRAS; k++) {
+				char d = entrada.charAt(inicio + k);
+				if (!isDigito(d)) {
+					return Situacao.FORMATO_INVALIDO;
+				}
+				codigos[c + k] = d;
+			}
+			return Situacao.VALIDO;
+
+		case TAMANHO_LINHA_NUMERICA:
+			for (int k = 0; k < TAMANHO_LINHA_NUMERICA; k++) {
+				char d = entrada.charAt(inicio + k);
+				if (!isDigito(d)) {
+					return Situacao.FORMATO_INVALIDO;
+				}
+				linha[k] = d;
+			}
+			return linhaEmCodigoDeBarras(c);
+
+		case TAMANHO_LINHA_FORMATADA:
+			for (int k = 0; k < TAMANHO_LINHA_FORMATADA; k++) {
+				char d = entrada.charAt(inicio + k);
+				int posicao = POSICOES_FORMATADA[k];
+				if (posicao < 0) {
+					if (d != SEPARADORES_FORMATADA[k]) {
+						return Situacao.FORMATO_INVALIDO;
+					}
+				} else if (isDigito(d)) {
+					linha[posicao] = d;
+				} else {
+					return Situacao.FORMATO_INVALIDO;
+				}
+			}
+			return linhaEmCodigoDeBarras(c);
+
+		default:
+			return Situacao.FORMATO_INVALIDO;
+		}
+	}
+
+	private Situacao linhaEmCodigoDeBarras(int c) {
+
+		//banco e moeda
+		System.arraycopy(linha, 0, codigos, c, 4);
+		//DV geral, fator de vencimento e valor
+		System.arraycopy(linha, 32, codigos, c + 4, 15);
+		//campo livre
+		System.arraycopy(linha, 4, codigos, c + 19, 5);
+		System.arraycopy(linha, 10, codigos, c + 24, 10);
+		System.arraycopy(linha, 21, codigos, c + 34, 10);
+
+		boolean confere = dvCampoConfere(0, 9) && dvCampoConfere(10, 20) && dvCampoConfere(21, 31);
+		return confere ? Situacao.VALIDO : Situacao.DIGITO_VERIFICADOR_INVALIDO;
+	}
+
+	/**
+	 * Confere o dígito do campo da linha digitável em <code>posicaoDV</code>.
+	 */
+	private boolean dvCampoConfere(int inicio, int posicaoDV) {
+
+		janelaLinha.clear();
+		janelaLinha.limit(posicaoDV).position(inicio);
+		return dvCampo(Modulo.calculeMod10(janelaLinha, 1, 2)) == linha[posicaoDV] - '0';
+	}
+
+	private static int dvCampo(int resto) {
+
+		return (resto != 0) ? 10 - resto : 0;
+	}
+
+	/**
+	 * Confere o dígito verificador geral (módulo 11) do código de barras em
+	 * <code>c</code>.
+	 */
+	private boolean dvGeralConfere(int c) {
+
+		System.arraycopy(codigos, c, semDV, 0, 4);
+		System.arraycopy(codigos, c + 5, semDV, 4, TAMANHO_CODIGO_DE_BARRAS - 5);
+		janelaSemDV.clear();
+		int resto = Modulo.calculeMod11(janelaSemDV, 2, 9);
+		int dv = (resto == 0 || resto == 1 || resto == 10) ? 1 : 11 - resto;
+		return dv == codigos[c + 4] - '0';
+	}
+
+	private static boolean isDigito(char c) {
+
+		return c >= '0' && c <= '9';
+	}
+
+	private static long numero(char[] origem, int inicio, int tamanho) {
+
+		long numero = 0;
+		for (int k = inicio; k < inicio + tamanho; k++) {
+			numero = numero * 10 + (origem[k] - '0');
+		}
+		return numero;
+	}
+}
@@ -29,6 +29,7 @@
 package org.jrimum.bopepo.pdf;
 
 import com.itextpdf.text.pdf.BarcodeInter25;
+import com.itextpdf.text.pdf.PdfContentByte;
 import static java.lang.String.format;
 
 import java.awt.Color;
@@ -84,17 +85,31 @@ public class CodigoDeBarras {
     }
 
     public Image toImage() {
+        return toBarcode().createAwtImage(Color.BLACK, Color.WHITE);
+    }
 
+    /**
+     * Cria o código de barras como uma imagem vetorial do PDF, desenhando as
+     * barras diretamente no conteúdo informado, sem passar por uma imagem AWT.
+     *
+     * @param cb Conteúdo do PDF onde o código de barras será usado
+     * @return Imagem vetorial (template) com as barras do código
+     *
+     * @since 0.2.3
+     */
+    public com.itextpdf.text.Image toPdfImage(PdfContentByte cb) {
+        return toBarcode().createImageWithBarcode(cb, null, null);
+    }
+
+    private BarcodeInter25 toBarcode() {
         // Montando o código de barras.
         BarcodeInter25 barCode = new BarcodeInter25();
         barCode.setCode(this.write());
-
         barCode.setExtended(true);
         barCode.setBarHeight(35);
         barCode.setFont(null);
         barCode.setN(3);
-
-        return barCode.createAwtImage(Color.BLACK, Color.WHITE);
+        return barCode;
     }
 
     private static void checkCodigo(String str) {
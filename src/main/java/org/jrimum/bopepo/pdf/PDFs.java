@@ -35,9 +35,12 @@ import com.itextpdf.text.Image;
 import com.itextpdf.text.pdf.PdfContentByte;
 import com.itextpdf.text.pdf.PdfCopy;
 import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfSmartCopy;
 import com.itextpdf.text.pdf.PdfStamper;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
 
 import org.jrimum.utilix.Exceptions;
 
@@ -90,6 +93,32 @@ public class PDFs {
     public static PdfRectangle changeFieldToImage(PdfStamper stamper,
             PdfRectangle rect, Image image) throws DocumentException {
 
+        int page = rect.getPage();
+        PdfContentByte overContent = stamper.getOverContent(page);
+        //Tentar a proxima pagina
+        if (overContent == null) {
+            overContent = stamper.getOverContent(page + 1);
+        }
+        return changeFieldToImage(overContent, rect, image);
+    }
+
+    /**
+     * <p>
+     * Desenha uma imgem com as dimensões e possição do field diretamente no
+     * conteúdo de uma página.
+     * </p>
+     *
+     * @param content Conteúdo da página onde o field se encontra
+     * @param rect
+     * @param image
+     * @return rectanglePDF
+     * @throws DocumentException
+     *
+     * @since 0.2.3
+     */
+    public static PdfRectangle changeFieldToImage(PdfContentByte content,
+            PdfRectangle rect, Image image) throws DocumentException {
+
         // Ajustando o tamanho da imagem de acordo com o tamanho do campo.
         // image.scaleToFit(rect.getWidth(), rect.getHeight());
         image.scaleAbsolute(rect.getWidth(), rect.getHeight());
@@ -106,13 +135,7 @@ public class PDFs {
                 .getLowerLeftY()
                 + (rect.getHeight() - image.getScaledHeight()) / 2);
 
-        int page = rect.getPage();
-        PdfContentByte overContent = stamper.getOverContent(page);
-        //Tentar a proxima pagina
-        if (overContent == null) {
-            overContent = stamper.getOverContent(page + 1);
-        }
-        overContent.addImage(image);
+        content.addImage(image);
         return rect;
     }
 
@@ -142,25 +165,122 @@ public class PDFs {
      */
     public static byte[] mergeFiles(Collection<byte[]> pdfFiles, PdfDocInfo info) {
 
+        return mergeFiles(pdfFiles, info, false);
+    }
+
+    /**
+     * Junta varios arquivos pdf em um só.
+     *
+     * @see #mergeFiles(Iterator, OutputStream, PdfDocInfo, boolean)
+     *
+     * @param pdfFiles Coleção de array de bytes
+     * @param info Usa somente as informações
+     * (title,subject,keywords,author,creator)
+     * @param smartCopy Compartilha os recursos idênticos entre os arquivos
+     *
+     * @return Arquivo PDF em forma de byte
+     *
+     * @since 0.2.3
+     */
+    public static byte[] mergeFiles(Collection<byte[]> pdfFiles, PdfDocInfo info, boolean smartCopy) {
+
         try {
 
             ByteArrayOutputStream byteOS = new ByteArrayOutputStream();
 
+            mergeFiles(pdfFiles.iterator(), byteOS, info, smartCopy);
+
+            byteOS.close();
+
+            return byteOS.toByteArray();
+
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * Junta varios arquivos pdf em um só, escrevendo o resultado diretamente no
+     * stream de saída.
+     *
+     * <p>
+     * Os arquivos são consumidos do iterador um a um e as suas páginas são
+     * escritas no stream logo após serem copiadas, de modo que apenas um
+     * arquivo por vez é mantido em memória. O stream de saída não é fechado.
+     * </p>
+     *
+     * @param pdfFiles Iterador de arrays de bytes
+     * @param out Stream onde o arquivo resultante será escrito
+     *
+     * @since 0.2.3
+     */
+    public static void mergeFiles(Iterator<byte[]> pdfFiles, OutputStream out) {
+
+        mergeFiles(pdfFiles, out, null);
+    }
+
+    /**
+     * Junta varios arquivos pdf em um só, escrevendo o resultado diretamente no
+     * stream de saída.
+     *
+     * @see #mergeFiles(Iterator, OutputStream)
+     *
+     * @param pdfFiles Iterador de arrays de bytes
+     * @param out Stream onde o arquivo resultante será escrito
+     * @param info Usa somente as informações
+     * (title,subject,keywords,author,creator)
+     *
+     * @since 0.2.3
+     */
+    public static void mergeFiles(Iterator<byte[]> pdfFiles, OutputStream out, PdfDocInfo info) {
+
+        mergeFiles(pdfFiles, out, info, false);
+    }
+
+    /**
+     * Junta varios arquivos pdf em um só, escrevendo o resultado diretamente no
+     * stream de saída.
+     *
+     * <p>
+     * Com {@code smartCopy} os streams idênticos entre os arquivos (imagens
+     * como o logotipo do banco, fontes, o fundo do template, etc.) são
+     * escritos uma única vez e compartilhados por todas as páginas, o que
+     * reduz bastante o tamanho do arquivo quando os documentos vêm de um mesmo
+     * template.
+     * </p>
+     *
+     * @see #mergeFiles(Iterator, OutputStream)
+     *
+     * @param pdfFiles Iterador de arrays de bytes
+     * @param out Stream onde o arquivo resultante será escrito
+     * @param info Usa somente as informações
+     * (title,subject,keywords,author,creator)
+     * @param smartCopy Compartilha os recursos idênticos entre os arquivos
+     *
+     * @since 0.2.3
+     */
+    public static void mergeFiles(Iterator<byte[]> pdfFiles, OutputStream out, PdfDocInfo info, boolean smartCopy) {
+
+        try {
+
             Document document = new Document();
 
-            PdfCopy copy = new PdfCopy(document, byteOS);
+            PdfCopy copy = smartCopy ? new PdfSmartCopy(document, out) : new PdfCopy(document, out);
+
+            copy.setCloseStream(false);
 
             document.open();
 
-            for (byte[] f : pdfFiles) {
+            while (pdfFiles.hasNext()) {
 
-                PdfReader reader = new PdfReader(f);
+                PdfReader reader = new PdfReader(pdfFiles.next());
 
                 for (int page = 1; page <= reader.getNumberOfPages(); page++) {
 
                     copy.addPage(copy.getImportedPage(reader, page));
                 }
 
+                copy.freeReader(reader);
                 reader.close();
             }
 
@@ -177,12 +297,9 @@ public class PDFs {
 
             copy.close();
             document.close();
-            byteOS.close();
-
-            return byteOS.toByteArray();
 
         } catch (Exception e) {
-            return Exceptions.throwIllegalStateException(e);
+            Exceptions.throwIllegalStateException(e);
         }
     }
 
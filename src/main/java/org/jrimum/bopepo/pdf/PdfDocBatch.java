@@ -0,0 +1,472 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 14:20:08
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 14:20:08
+ *
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.checkNotNull;
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import org.jrimum.utilix.Exceptions;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.AcroFields;
+import com.itextpdf.text.pdf.PdfAppearance;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfDictionary;
+import com.itextpdf.text.pdf.PdfImportedPage;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfNumber;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.TextField;
+
+/**
+ * <p>
+ * Gerador de um único documento PDF com vários documentos preenchidos a partir
+ * de templates com fields.
+ * </p>
+ *
+ * <p>
+ * Ao contrário de gerar cada documento com o {@link PdfDocMix} e depois juntar
+ * os arquivos, aqui cada página do template é importada uma única vez e
+ * desenhada como fundo de todas as páginas que a utilizam. Os valores dos
+ * campos de cada documento são desenhados diretamente sobre a nova página, com
+ * a mesma aparência que os campos teriam no template, e as páginas são
+ * escritas no stream de saída à medida que os documentos são adicionados.
+ * Assim nenhum documento é serializado e lido novamente.
+ * </p>
+ *
+ * <p>
+ * O documento gerado não possui campos de formulário (como em um
+ * {@link PdfDocMix} com {@code removeFields}). Instâncias desta classe não são
+ * thread-safe.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+public class PdfDocBatch implements Closeable {
+
+    private final OutputStream outputStream;
+
+    /**
+     * Informações sobre o documento.
+     */
+    private final PdfDocInfo docInfo;
+
+    /**
+     * Templates já importados no documento, pela instância do template.
+     */
+    private final Map<byte[], TemplateImportado> templates = new IdentityHashMap<byte[], TemplateImportado>();
+
+    private final Map<java.awt.Image, Image> imagesInUseMap = new WeakHashMap<java.awt.Image, Image>();
+
+    private Document document;
+
+    private PdfWriter writer;
+
+    private boolean closed;
+
+    /**
+     * Cria um lote que escreve o documento gerado no stream informado. O stream
+     * não é fechado pelo lote.
+     *
+     * @param out
+     *            Stream onde o documento PDF será escrito
+     *
+     * @since 0.2.3
+     */
+    public PdfDocBatch(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * Cria um lote que escreve o documento gerado no stream informado. O stream
+     * não é fechado pelo lote.
+     *
+     * @param out
+     *            Stream onde o documento PDF será escrito
+     * @param docInfo
+     *            Usa somente as informações
+     *            (title,subject,keywords,author,creator)
+     *
+     * @since 0.2.3
+     */
+    public PdfDocBatch(OutputStream out, PdfDocInfo docInfo) {
+
+        checkNotNull(out, "Stream de saída nulo!");
+
+        this.outputStream = out;
+        this.docInfo = docInfo;
+    }
+
+    /**
+     * Adiciona ao lote as páginas do template do documento informado,
+     * preenchidas com os seus textos, imagens e códigos de barras.
+     *
+     * @param doc
+     *            Documento com o template e os valores dos campos
+     * @return Este lote
+     *
+     * @since 0.2.3
+     */
+    public PdfDocBatch add(PdfDocMix doc) {
+
+        checkNotNull(doc, "Documento nulo!");
+
+        if (closed) {
+            return Exceptions.throwIllegalStateException("Lote já finalizado!");
+        }
+
+        try {
+
+            TemplateImportado template = importar(doc.templateBytes());
+
+            for (int pagina = 1; pagina <= template.paginas.length; pagina++) {
+
+                novaPagina(template.reader.getPageSizeWithRotation(pagina));
+
+                PdfContentByte cb = writer.getDirectContent();
+
+                cb.addTemplate(template.paginas[pagina - 1], 0, 0);
+
+                setTextFields(cb, template, pagina, doc.getTextFields());
+                setImageFields(cb, template, pagina, doc.getImageFields());
+                setBarcodeFields(cb, template, pagina, doc.getBarcodeFields());
+            }
+
+        } catch (Exception e) {
+            Exceptions.throwIllegalStateException(e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Finaliza o documento, escrevendo o restante no stream de saída.
+     *
+     * @since 0.2.3
+     */
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (isNull(document)) {
+            Exceptions.throwIllegalStateException("Nenhum documento adicionado ao lote!");
+        }
+
+        document.addCreationDate();
+
+        if (isNotNull(docInfo)) {
+
+            document.addAuthor(docInfo.author());
+            document.addCreator(docInfo.creator());
+            document.addTitle(docInfo.title());
+            document.addSubject(docInfo.subject());
+            document.addKeywords(docInfo.keywords());
+        }
+
+        try {
+
+            document.close();
+
+        } catch (Exception e) {
+            Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    private void novaPagina(Rectangle tamanho) throws DocumentException {
+
+        if (isNull(document)) {
+
+            document = new Document(tamanho);
+            writer = PdfWriter.getInstance(document, outputStream);
+            writer.setCloseStream(false);
+            document.open();
+
+        } else {
+
+            document.setPageSize(tamanho);
+            document.newPage();
+        }
+    }
+
+    private void setTextFields(PdfContentByte cb, TemplateImportado template, int pagina, Map<String, String> txtMap) {
+
+        if (isNull(txtMap)) {
+            return;
+        }
+
+        for (Entry<String, String> e : txtMap.entrySet()) {
+
+            Campo[] campos = template.campos.get(e.getKey());
+
+            if (isNull(campos) || isNull(e.getValue())) {
+                continue;
+            }
+
+            for (Campo campo : campos) {
+                if (campo.pagina == pagina && isNotNull(campo.texto)) {
+                    try {
+                        cb.addTemplate(campo.getAppearance(e.getValue()), campo.box.getLeft(), campo.box.getBottom());
+                    } catch (Exception ex) {
+                        Exceptions.throwIllegalStateException(ex);
+                    }
+                }
+            }
+        }
+    }
+
+    private void setImageFields(PdfContentByte cb, TemplateImportado template, int pagina, Map<String, java.awt.Image> imgMap) throws DocumentException {
+
+        if (isNull(imgMap)) {
+            return;
+        }
+
+        for (Entry<String, java.awt.Image> e : imgMap.entrySet()) {
+
+            Campo[] campos = template.campos.get(e.getKey());
+
+            if (isNull(campos)) {
+                continue;
+            }
+
+            for (Campo campo : campos) {
+                if (campo.pagina == pagina) {
+                    PDFs.changeFieldToImage(cb, new PdfRectangle(campo.box), getPdfImage(e.getValue()));
+                }
+            }
+        }
+    }
+
+    private void setBarcodeFields(PdfContentByte cb, TemplateImportado template, int pagina, Map<String, CodigoDeBarras> barcodeMap) throws DocumentException {
+
+        if (isNull(barcodeMap)) {
+            return;
+        }
+
+        for (Entry<String, CodigoDeBarras> e : barcodeMap.entrySet()) {
+
+            Campo[] campos = template.campos.get(e.getKey());
+
+            if (isNull(campos)) {
+                continue;
+            }
+
+            for (Campo campo : campos) {
+                if (campo.pagina == pagina) {
+                    PDFs.changeFieldToImage(cb, new PdfRectangle(campo.box), e.getValue().toPdfImage(cb));
+                }
+            }
+        }
+    }
+
+    private Image getPdfImage(java.awt.Image image) {
+
+        Image pdfImage = imagesInUseMap.get(image);
+
+        if (isNull(pdfImage)) {
+            try {
+                pdfImage = Image.getInstance(image, null);
+                imagesInUseMap.put(image, pdfImage);
+            } catch (Exception ex) {
+                Exceptions.throwIllegalStateException(ex);
+            }
+        }
+        return pdfImage;
+    }
+
+    /**
+     * Importa o template no documento caso ainda não tenha sido importado.
+     * Como o mesmo array de template costuma ser reutilizado por todos os
+     * documentos, a busca é feita primeiro pela instância e só depois pelo
+     * conteúdo.
+     */
+    private TemplateImportado importar(byte[] template) throws Exception {
+
+        checkNotNull(template, "Template nulo!");
+
+        TemplateImportado importado = templates.get(template);
+
+        if (isNull(importado)) {
+
+            PdfTemplateCache.Template parsed = PdfTemplateCache.get(template);
+
+            for (TemplateImportado outro : templates.values()) {
+                if (outro.parsed == parsed) {
+                    importado = outro;
+                    break;
+                }
+            }
+
+            if (isNull(importado)) {
+                importado = new TemplateImportado(parsed);
+            }
+
+            templates.put(template, importado);
+        }
+
+        return importado;
+    }
+
+    /**
+     * Template com as páginas importadas no documento e os campos prontos para
+     * o desenho dos valores.
+     */
+    private final class TemplateImportado {
+
+        private final PdfTemplateCache.Template parsed;
+
+        private final PdfReader reader;
+
+        private final PdfImportedPage[] paginas;
+
+        private final Map<String, Campo[]> campos;
+
+        TemplateImportado(PdfTemplateCache.Template parsed) throws Exception {
+
+            this.parsed = parsed;
+            this.reader = parsed.newReader();
+
+            if (isNull(document)) {
+                novaPagina(reader.getPageSizeWithRotation(1));
+            }
+
+            this.paginas = new PdfImportedPage[reader.getNumberOfPages()];
+
+            for (int pagina = 1; pagina <= paginas.length; pagina++) {
+                paginas[pagina - 1] = writer.getImportedPage(reader, pagina);
+            }
+
+            final AcroFields form = reader.getAcroFields();
+
+            this.campos = new HashMap<String, Campo[]>(form.getFields().size() * 2);
+
+            for (String nome : form.getFields().keySet()) {
+
+                AcroFields.Item item = form.getFieldItem(nome);
+                Campo[] widgets = new Campo[item.size()];
+
+                for (int i = 0; i < widgets.length; i++) {
+                    widgets[i] = new Campo(form, item.getMerged(i), item.getPage(i));
+                }
+
+                campos.put(nome, widgets);
+            }
+        }
+    }
+
+    /**
+     * Widget de um campo do template: página, retângulo e, para os campos de
+     * texto, o gerador de aparência decodificado do próprio campo (fonte,
+     * tamanho, cor, alinhamento, opções de /Ff como multilinha, etc.), montado
+     * como no preenchimento por {@code PdfStamper}.
+     */
+    private final class Campo {
+
+        private final int pagina;
+
+        private final Rectangle box;
+
+        private final TextField texto;
+
+        private String ultimoValor;
+
+        private PdfAppearance ultimaAparencia;
+
+        Campo(AcroFields form, PdfDictionary merged, int pagina) throws Exception {
+
+            this.pagina = pagina;
+            this.box = PdfReader.getNormalizedRectangle(merged.getAsArray(PdfName.RECT));
+
+            if (PdfName.TX.equals(merged.getAsName(PdfName.FT))) {
+
+                TextField tx = new TextField(writer, null, null);
+                tx.setBorderWidth(0);
+                tx.setSubstitutionFonts(form.getSubstitutionFonts());
+                form.decodeGenericDictionary(merged, tx);
+
+                //Como no AcroFields.getAppearance: multilinha, comb, senha e sem rolagem
+                //vêm de /Ff, com os mesmos bits das opções do TextField
+                PdfNumber flags = merged.getAsNumber(PdfName.FF);
+                tx.setOptions(isNotNull(flags) ? flags.intValue() : 0);
+
+                PdfNumber maxLen = merged.getAsNumber(PdfName.MAXLEN);
+                if (isNotNull(maxLen)) {
+                    tx.setMaxCharacterLength(maxLen.intValue());
+                }
+
+                if (tx.getRotation() == 90 || tx.getRotation() == 270) {
+                    tx.setBox(box.rotate());
+                } else {
+                    tx.setBox(box);
+                }
+
+                this.texto = tx;
+
+            } else {
+
+                this.texto = null;
+            }
+        }
+
+        /**
+         * Retorna a aparência do campo com o valor informado. Valores que se
+         * repetem de um documento para o outro (cedente, local de pagamento,
+         * etc.) reutilizam a aparência anterior, escrita uma única vez no
+         * documento.
+         */
+        PdfAppearance getAppearance(String valor) throws Exception {
+
+            if (!valor.equals(ultimoValor)) {
+                texto.setText(valor);
+                ultimaAparencia = texto.getAppearance();
+                ultimoValor = valor;
+            }
+
+            return ultimaAparencia;
+        }
+    }
+}
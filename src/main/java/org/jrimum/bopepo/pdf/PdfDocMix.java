@@ -32,6 +32,7 @@ import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Image;
 import com.itextpdf.text.pdf.AcroFields;
 import com.itextpdf.text.pdf.PdfBoolean;
+import com.itextpdf.text.pdf.PdfContentByte;
 import com.itextpdf.text.pdf.PdfName;
 import com.itextpdf.text.pdf.PdfReader;
 import com.itextpdf.text.pdf.PdfStamper;
@@ -50,7 +51,6 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.Calendar;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.WeakHashMap;
@@ -75,6 +75,7 @@ public class PdfDocMix {
 
     private static final Logger LOG = Logger.getLogger(PdfDocMix.class);
 
+    private PdfTemplateCache.Template parsedTemplate;
     private PdfReader reader;
     private PdfStamper stamper;
     private AcroFields form;
@@ -103,6 +104,11 @@ public class PdfDocMix {
      */
     private Map<String, java.awt.Image> imgMap;
 
+    /**
+     * Map dos campos de código de barras do documento com nome e valor.
+     */
+    private Map<String, CodigoDeBarras> barcodeMap;
+
     /**
      * Modo full compression do PDF, default = true.
      *
@@ -473,6 +479,9 @@ public class PdfDocMix {
         } else {
             this.imgMap.putAll(imgMap);
         }
+        if (isNotNull(barcodeMap)) {
+            this.barcodeMap.keySet().removeAll(imgMap.keySet());
+        }
         return this;
     }
 
@@ -497,6 +506,69 @@ public class PdfDocMix {
 
         this.imgMap.put(name, value);
 
+        if (isNotNull(barcodeMap)) {
+            this.barcodeMap.remove(name);
+        }
+
+        return this;
+    }
+
+    /**
+     * Retorna um {@code Map} com os campos e seus respectivos códigos de barras
+     * adicionados nessa instância.
+     *
+     * @return Map de campo,código de barras
+     *
+     * @since 0.2.3
+     */
+    public Map<String, CodigoDeBarras> getBarcodeFields() {
+        return this.barcodeMap;
+    }
+
+    /**
+     * Coloca todos chave-valor na instância, caso uma chave existe o valor será
+     * substituído. Os códigos de barras são desenhados como barras vetoriais
+     * na área do campo, sem o uso de imagens.
+     *
+     * @param barcodeMap Map com os campos(key) e códigos de barras(value)
+     * @return Esta instância após a operação
+     *
+     * @since 0.2.3
+     */
+    public PdfDocMix putAllBarcodes(Map<String, CodigoDeBarras> barcodeMap) {
+        Collections.checkNotEmpty(barcodeMap, "Campos ausentes!");
+        for (Entry<String, CodigoDeBarras> e : barcodeMap.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Coloca um par {@code key,value} para uso no preenchimento de campos de
+     * código de barras na instância. Caso o campo tenha sido definido como
+     * imagem, a imagem é descartada.
+     *
+     * @param name Nome do campo
+     * @param value Código de barras do campo
+     *
+     * @return Esta instância após a operação
+     *
+     * @since 0.2.3
+     */
+    public PdfDocMix put(String name, CodigoDeBarras value) {
+
+        Strings.checkNotBlank(name, "Nome do campo ausente!");
+
+        if (isNull(barcodeMap)) {
+            this.barcodeMap = new HashMap<String, CodigoDeBarras>();
+        }
+
+        this.barcodeMap.put(name, value);
+
+        if (isNotNull(imgMap)) {
+            this.imgMap.remove(name);
+        }
+
         return this;
     }
 
@@ -655,6 +727,33 @@ public class PdfDocMix {
         return this;
     }
 
+    /**
+     * Cria um novo documento com o mesmo template e as mesmas opções deste
+     * (compressão, remoção de campos, exibição do título e informações do
+     * documento), porém sem os campos de texto e imagem preenchidos.
+     *
+     * <p>
+     * Útil para o processamento em paralelo, onde cada thread deve trabalhar
+     * com a sua própria instância.
+     * </p>
+     *
+     * @return Nova instância configurada como esta
+     *
+     * @since 0.2.3
+     */
+    public PdfDocMix copy() {
+
+        PdfDocMix copy = new PdfDocMix();
+
+        copy.template = this.template;
+        copy.docInfo = PdfDocInfo.create(this.docInfo.toMap());
+        copy.fullCompression = this.fullCompression;
+        copy.removeFields = this.removeFields;
+        copy.displayDocTitle = this.displayDocTitle;
+
+        return copy;
+    }
+
     /**
      * Retorna o documento em forma de arquivo PDF.
      *
@@ -801,6 +900,18 @@ public class PdfDocMix {
         return template.clone();
     }
 
+    /**
+     * Retorna o próprio array do template, sem cópia, para uso dentro do
+     * pacote.
+     *
+     * @return template
+     *
+     * @since 0.2.3
+     */
+    byte[] templateBytes() {
+        return template;
+    }
+
     /**
      * Define o template que será utilizado para construir o documento.
      *
@@ -940,7 +1051,8 @@ public class PdfDocMix {
      */
     private void init() {
         try {
-            reader = new PdfReader(getTemplate());
+            parsedTemplate = PdfTemplateCache.get(template);
+            reader = parsedTemplate.newReader();
             outputStream = new ByteArrayOutputStream();
             stamper = new PdfStamper(reader, outputStream);
 
@@ -977,6 +1089,7 @@ public class PdfDocMix {
     private void fillFields() {
         setTextFields();
         setImageFields();
+        setBarcodeFields();
     }
 
     /**
@@ -988,6 +1101,9 @@ public class PdfDocMix {
     private void setTextFields() {
         if (hasElement(txtMap)) {
             for (Entry<String, String> e : txtMap.entrySet()) {
+                if (!parsedTemplate.hasField(e.getKey())) {
+                    continue;
+                }
                 try {
                     form.setField(e.getKey(), e.getValue());
                     //System.out.println("form.setField(\"" + e.getKey() + "\", \"" + e.getValue() + "\");");
@@ -1022,11 +1138,11 @@ public class PdfDocMix {
      */
     private void setImage(String fieldName, java.awt.Image image) {
         if (isNotBlank(fieldName)) {
-            List<AcroFields.FieldPosition> posImgField = form.getFieldPositions(fieldName);
+            PdfRectangle[] posImgField = parsedTemplate.getFieldPositions(fieldName);
             if (isNotNull(posImgField)) {
                 try {
-                    for (AcroFields.FieldPosition pos : posImgField) {
-                        PDFs.changeFieldToImage(stamper, new PdfRectangle(pos.position), getPdfImage(image));
+                    for (PdfRectangle pos : posImgField) {
+                        PDFs.changeFieldToImage(stamper, pos, getPdfImage(image));
                     }
                 } catch (Exception e) {
                     e.printStackTrace();
@@ -1038,6 +1154,51 @@ public class PdfDocMix {
         }
     }
 
+    /**
+     * Desenha os códigos de barras nos campos de acordo com o nome dos campos
+     * do documento atribuídos no map e templante.
+     *
+     * @since 0.2.3
+     */
+    private void setBarcodeFields() {
+        if (hasElement(barcodeMap)) {
+            for (Entry<String, CodigoDeBarras> e : barcodeMap.entrySet()) {
+                setBarcode(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Desenha um código de barras vetorial no pdf de acordo com o nome do field
+     * no templante.
+     *
+     * @param fieldName
+     * @param codigo
+     *
+     * @since 0.2.3
+     */
+    private void setBarcode(String fieldName, CodigoDeBarras codigo) {
+        if (isNotBlank(fieldName)) {
+            PdfRectangle[] posBarcodeField = parsedTemplate.getFieldPositions(fieldName);
+            if (isNotNull(posBarcodeField)) {
+                try {
+                    for (PdfRectangle pos : posBarcodeField) {
+                        PdfContentByte cb = stamper.getOverContent(pos.getPage());
+                        //Tentar a proxima pagina
+                        if (cb == null) {
+                            cb = stamper.getOverContent(pos.getPage() + 1);
+                        }
+                        PDFs.changeFieldToImage(stamper, pos, codigo.toPdfImage(cb));
+                    }
+                } catch (Exception e) {
+                    Exceptions.throwIllegalStateException(e);
+                }
+            } else {
+                LOG.warn("Posicionamento do campo de codigo de barras nao encontrado! CAMPO: " + fieldName);
+            }
+        }
+    }
+
     public Image getPdfImage(java.awt.Image image) {
 
         Image pdfImage = imagesInUseMap.get(image);
@@ -84,6 +84,17 @@ public class PdfRectangle extends Rectangle {
         super(rect);
     }
 
+    /**
+     * @param rect
+     * @param page - página do retângulo
+     * 
+     * @since 0.2.3
+     */
+    public PdfRectangle(Rectangle rect, int page) {
+        super(rect);
+        this.page = page;
+    }
+
     /**
      * @return page
      */
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 11:02:45
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 11:02:45
+ *
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.checkNotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.itextpdf.text.pdf.AcroFields;
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * <p>
+ * Cache de templates PDF já interpretados.
+ * </p>
+ *
+ * <p>
+ * Cada template é lido (xref, objetos e formulário) uma única vez e mantido
+ * como um {@link PdfReader} que nunca é alterado. Para cada documento a ser
+ * gerado é entregue uma cópia independente desse reader, bem mais barata que
+ * uma nova leitura do template. Junto com o reader é mantido um índice com as
+ * posições (página e retângulo) de cada campo do formulário, calculado também
+ * uma única vez.
+ * </p>
+ *
+ * <p>
+ * Os templates são identificados pelo seu conteúdo e o cache guarda no máximo
+ * {@value #MAX_TEMPLATES} deles, descartando o menos usado recentemente quando
+ * esse limite é ultrapassado.
+ * </p>
+ *
+ * <p>
+ * Como o mesmo array costuma ser usado em todos os boletos, cada array já
+ * visto também é associado à chave do seu template, evitando recalcular o hash
+ * do conteúdo a cada documento. O conteúdo do array ainda é comparado com o da
+ * chave, de modo que um array alterado depois é lido novamente, e a chave é
+ * resolvida no próprio cache: templates descartados não continuam acessíveis
+ * pelos arrays que os originaram.
+ * </p>
+ *
+ * @since 0.2.3
+ *
+ * @version 0.2.3
+ */
+final class PdfTemplateCache {
+
+    /**
+     * Quantidade máxima de templates mantidos em cache.
+     */
+    static final int MAX_TEMPLATES = 16;
+
+    /**
+     * Chaves do cache pela referência do array informado. Arrays têm igualdade
+     * por identidade e as entradas somem junto com o array ou com o descarte
+     * da chave do cache.
+     */
+    private static final Map<byte[], Key> POR_REFERENCIA = new WeakHashMap<byte[], Key>();
+
+    private static final Map<Key, Template> TEMPLATES = new LinkedHashMap<Key, Template>(MAX_TEMPLATES, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Template> eldest) {
+
+            if (size() > MAX_TEMPLATES) {
+                for (Iterator<Key> chaves = POR_REFERENCIA.values().iterator(); chaves.hasNext();) {
+                    if (chaves.next() == eldest.getKey()) {
+                        chaves.remove();
+                    }
+                }
+                return true;
+            }
+
+            return false;
+        }
+    };
+
+    /**
+     * Utility class pattern: classe não instanciável
+     */
+    private PdfTemplateCache() {
+    }
+
+    /**
+     * Retorna uma cópia independente do reader do template, podendo ser
+     * alterada livremente (por um {@code PdfStamper}, por exemplo).
+     *
+     * @param template
+     *            Template PDF em array de bytes
+     * @return Novo reader do template
+     * @throws IOException
+     *             Caso o template não seja um PDF válido
+     */
+    static PdfReader newReader(byte[] template) throws IOException {
+
+        return get(template).newReader();
+    }
+
+    /**
+     * Retorna o template já interpretado, lendo o template caso ainda não
+     * esteja em cache.
+     *
+     * @param template
+     *            Template PDF em array de bytes
+     * @return Template interpretado e compartilhado
+     * @throws IOException
+     *             Caso o template não seja um PDF válido
+     */
+    static Template get(byte[] template) throws IOException {
+
+        checkNotNull(template, "Template nulo!");
+
+        Template parsed = null;
+
+        final Key conhecida;
+
+        synchronized (TEMPLATES) {
+            conhecida = POR_REFERENCIA.get(template);
+        }
+
+        if (conhecida != null && conhecida.hasContent(template)) {
+            synchronized (TEMPLATES) {
+                parsed = TEMPLATES.get(conhecida);
+            }
+        }
+
+        if (parsed != null) {
+            return parsed;
+        }
+
+        final Key key = new Key(template);
+
+        synchronized (TEMPLATES) {
+            parsed = TEMPLATES.get(key);
+            if (parsed != null) {
+                POR_REFERENCIA.put(template, parsed.chave);
+            }
+        }
+
+        if (parsed == null) {
+
+            final Key copia = key.detach();
+
+            parsed = new Template(new PdfReader(copia.template), copia);
+
+            synchronized (TEMPLATES) {
+
+                Template concorrente = TEMPLATES.get(copia);
+
+                if (concorrente == null) {
+                    TEMPLATES.put(copia, parsed);
+                } else {
+                    parsed = concorrente;
+                }
+                POR_REFERENCIA.put(template, parsed.chave);
+            }
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Remove todos os templates do cache.
+     */
+    static void clear() {
+
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+            POR_REFERENCIA.clear();
+        }
+    }
+
+    /**
+     * @return Quantidade de templates em cache
+     */
+    static int size() {
+
+        synchronized (TEMPLATES) {
+            return TEMPLATES.size();
+        }
+    }
+
+    /**
+     * Template interpretado: o reader compartilhado, que nunca é alterado, e
+     * o índice com as posições dos campos do formulário.
+     */
+    static final class Template {
+
+        private static final PdfRectangle[] SEM_POSICOES = new PdfRectangle[0];
+
+        private final PdfReader reader;
+
+        private final Map<String, PdfRectangle[]> posicoes;
+
+        /**
+         * Chave com a cópia do conteúdo sob a qual o template é guardado.
+         */
+        private final Key chave;
+
+        private Template(PdfReader reader, Key chave) {
+
+            this.reader = reader;
+            this.chave = chave;
+
+            final AcroFields form = new PdfReader(reader).getAcroFields();
+            final Map<String, PdfRectangle[]> indice = new HashMap<String, PdfRectangle[]>(form.getFields().size() * 2);
+
+            for (String nome : form.getFields().keySet()) {
+
+                final List<AcroFields.FieldPosition> posicoesDoCampo = form.getFieldPositions(nome);
+
+                if (posicoesDoCampo == null) {
+                    indice.put(nome, SEM_POSICOES);
+                } else {
+                    final PdfRectangle[] retangulos = new PdfRectangle[posicoesDoCampo.size()];
+                    for (int i = 0; i < retangulos.length; i++) {
+                        final AcroFields.FieldPosition posicao = posicoesDoCampo.get(i);
+                        retangulos[i] = new PdfRectangle(posicao.position, posicao.page);
+                    }
+                    indice.put(nome, retangulos);
+                }
+            }
+
+            this.posicoes = indice;
+        }
+
+        /**
+         * @return Cópia independente do reader do template
+         */
+        PdfReader newReader() {
+            return new PdfReader(reader);
+        }
+
+        /**
+         * @param nome
+         *            Nome do campo
+         * @return Indica se o template possui um campo com o nome informado
+         */
+        boolean hasField(String nome) {
+            return posicoes.containsKey(nome);
+        }
+
+        /**
+         * Retorna as posições do campo no template. Os retângulos retornados
+         * são compartilhados e não devem ser alterados.
+         *
+         * @param nome
+         *            Nome do campo
+         * @return Posições do campo ou {@code null} caso o campo não exista
+         */
+        PdfRectangle[] getFieldPositions(String nome) {
+            return posicoes.get(nome);
+        }
+
+        /**
+         * @return Nomes dos campos do template
+         */
+        Set<String> getFieldNames() {
+            return Collections.unmodifiableSet(posicoes.keySet());
+        }
+    }
+
+    /**
+     * Chave do cache pelo conteúdo do template.
+     */
+    private static final class Key {
+
+        private final byte[] template;
+
+        private final int hash;
+
+        Key(byte[] template) {
+            this(template, Arrays.hashCode(template));
+        }
+
+        private Key(byte[] template, int hash) {
+            this.template = template;
+            this.hash = hash;
+        }
+
+        /**
+         * @param conteudo
+         *            Array informado como template
+         * @return Indica se o array tem o mesmo conteúdo desta chave
+         */
+        boolean hasContent(byte[] conteudo) {
+            return template == conteudo || Arrays.equals(template, conteudo);
+        }
+
+        /**
+         * @return Chave com uma cópia do template, imune a alterações no array
+         *         original
+         */
+        Key detach() {
+            return new Key(template.clone(), hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) obj;
+
+            return hash == other.hash
+                    && (template == other.template || Arrays.equals(template, other.template));
+        }
+    }
+}
@@ -317,7 +317,11 @@ public abstract class AbstractBoletoInfoCampoView implements BoletoInfoCampoView
     }
 
     public Image getImagemFcCodigoBarra() {
-        return CodigoDeBarras.valueOf(boleto.getCodigoDeBarras().write()).toImage();
+        return getCodigoDeBarrasFcCodigoBarra().toImage();
+    }
+
+    public CodigoDeBarras getCodigoDeBarrasFcCodigoBarra() {
+        return CodigoDeBarras.valueOf(boleto.getCodigoDeBarras().write());
     }
 
     protected final Boleto getBoleto() {
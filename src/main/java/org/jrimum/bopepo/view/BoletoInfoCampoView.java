@@ -30,6 +30,8 @@
 package org.jrimum.bopepo.view;
 
 import java.awt.Image;
+
+import org.jrimum.bopepo.pdf.CodigoDeBarras;
 import org.apache.log4j.Logger;
 
 /**
@@ -154,4 +156,17 @@ public interface BoletoInfoCampoView {
 
     public Image getImagemFcCodigoBarra();
 
+    /**
+     * Código de barras para ser desenhado como barras vetoriais. Quando
+     * {@code null}, o padrão, é usada a imagem de
+     * {@linkplain #getImagemFcCodigoBarra()}.
+     *
+     * @return código de barras vetorial ou {@code null}
+     *
+     * @since 0.2.3
+     */
+    default CodigoDeBarras getCodigoDeBarrasFcCodigoBarra() {
+        return null;
+    }
+
 }
@@ -38,6 +38,7 @@ import java.util.WeakHashMap;
 
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.CodigoDeBarras;
 import org.jrimum.bopepo.view.BoletoCampo;
 import org.jrimum.bopepo.view.ResourceBundle;
 import org.jrimum.utilix.Collections;
@@ -45,8 +46,8 @@ import org.jrimum.utilix.Exceptions;
 import org.jrimum.utilix.Objects;
 
 /**
- * Lê os dados do Boleto e monta-os para uso em {@linkplain #texts()} e
- * {@linkplain #images()}.
+ * Lê os dados do Boleto e monta-os para uso em {@linkplain #texts()},
+ * {@linkplain #images()} e {@linkplain #barcodes()}.
  *
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
  *
@@ -60,12 +61,15 @@ public class BoletoInfoViewBuilder {
 
     private final Map<String, String> text;
     private final Map<String, Image> image;
+    private final Map<String, CodigoDeBarras> barcode;
 
     private final Map<String, String> boletoTextosExtra;
     private final Map<String, Image> boletoImagensExtra;
 
     private final BoletoInfoCampoView boletoInfoCampo;
 
+    private boolean codigoDeBarrasVetorial;
+
     /**
      * Modo de instanciação não permitido.
      *
@@ -77,6 +81,7 @@ public class BoletoInfoViewBuilder {
         Exceptions.throwIllegalStateException("Instanciação não permitida!");
         text = null;
         image = null;
+        barcode = null;
         boletoTextosExtra = null;
         boletoImagensExtra = null;
         boletoInfoCampo = null;
@@ -87,6 +92,7 @@ public class BoletoInfoViewBuilder {
         Objects.checkNotNull(boleto);
         text = new WeakHashMap<String, String>();
         image = new WeakHashMap<String, Image>();
+        barcode = new WeakHashMap<String, CodigoDeBarras>();
 
         this.boletoTextosExtra = boleto.getTextosExtras();
         this.boletoImagensExtra = boleto.getImagensExtras();
@@ -103,6 +109,26 @@ public class BoletoInfoViewBuilder {
         return new WeakHashMap<String, Image>(image);
     }
 
+    public Map<String, CodigoDeBarras> barcodes() {
+
+        return new WeakHashMap<String, CodigoDeBarras>(barcode);
+    }
+
+    /**
+     * Define se o código de barras será disponibilizado em
+     * {@linkplain #barcodes()}, para ser desenhado como barras vetoriais, ou
+     * como imagem em {@linkplain #images()} (padrão).
+     *
+     * @param option true para código de barras vetorial
+     * @return Esta instância após operação
+     *
+     * @since 0.2.3
+     */
+    public BoletoInfoViewBuilder withCodigoDeBarrasVetorial(boolean option) {
+        this.codigoDeBarrasVetorial = option;
+        return this;
+    }
+
     /**
      * Preenche todos os campos com os dados do boleto contido na instância.
      *
@@ -281,7 +307,12 @@ public class BoletoInfoViewBuilder {
     }
 
     private void setCodigoDeBarras() {
-        image.put(BoletoCampo.txtFcCodigoBarra.name(), boletoInfoCampo.getImagemFcCodigoBarra());
+        CodigoDeBarras codigoDeBarras = codigoDeBarrasVetorial ? boletoInfoCampo.getCodigoDeBarrasFcCodigoBarra() : null;
+        if (isNotNull(codigoDeBarras)) {
+            barcode.put(BoletoCampo.txtFcCodigoBarra.name(), codigoDeBarras);
+        } else {
+            image.put(BoletoCampo.txtFcCodigoBarra.name(), boletoInfoCampo.getImagemFcCodigoBarra());
+        }
     }
 
     private void setTodosOsCamposTexto() {
@@ -35,16 +35,20 @@ import static org.jrimum.utilix.Objects.isNotNull;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.Boleto;
 import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
 import org.jrimum.utilix.Collections;
 import org.jrimum.utilix.Exceptions;
 import org.jrimum.utilix.Objects;
@@ -300,6 +304,101 @@ public class BoletoViewer {
         return PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer(), destFile);
     }
 
+    /**
+     * <p>
+     * Agrupa os boletos do iterador em um único arquivo PDF escrito diretamente
+     * no stream de saída, sendo 1 boleto em cada página.
+     * </p>
+     * <p>
+     * Os boletos são gerados e escritos um a um, à medida que são obtidos do
+     * iterador, de modo que o consumo de memória não depende da quantidade de
+     * boletos. O stream de saída não é fechado por este método.
+     * </p>
+     *
+     * @param boletos Iterador com os boletos a serem agrupados
+     * @param out Stream onde o arquivo PDF será escrito
+     *
+     * @since 0.2.3
+     */
+    public static void groupInOnePDF(Iterator<Boleto> boletos, OutputStream out) {
+        checkBoletosIterator(boletos);
+        checkOutputStream(out);
+        PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer(), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos do iterador em um único arquivo PDF escrito diretamente
+     * no stream de saída, utilizando o template informado.
+     * </p>
+     *
+     * @see #groupInOnePDF(Iterator, OutputStream)
+     *
+     * @param boletos Iterador com os boletos a serem agrupados
+     * @param template Template PDF o qual os boletos serão gerados
+     * @param out Stream onde o arquivo PDF será escrito
+     *
+     * @since 0.2.3
+     */
+    public static void groupInOnePdfWithTemplate(Iterator<Boleto> boletos, byte[] template, OutputStream out) {
+        checkBoletosIterator(boletos);
+        checkTemplateFile(template);
+        checkOutputStream(out);
+        PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer().setTemplate(template), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único arquivo PDF gerando os boletos em
+     * paralelo. Ex: Se a lista contém 10 boletos, ao final será gerado um único
+     * arquivo PDF contendo os 10 boletos, sendo 1 boleto em cada página e na
+     * mesma ordem da lista.
+     * </p>
+     * <p>
+     * A lista é dividida em no máximo {@code paralelismo} partes, cada uma
+     * gerada em uma tarefa do {@code executor} (por exemplo, um
+     * {@code ForkJoinPool} ou um pool de threads fixo). O executor não é
+     * finalizado por este método.
+     * </p>
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param executor Executor onde os boletos serão gerados
+     * @param paralelismo Número máximo de tarefas simultâneas
+     *
+     * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+     *
+     * @since 0.2.3
+     */
+    public static byte[] groupInOnePDF(List<Boleto> boletos, ExecutorService executor, int paralelismo) {
+        checkBoletosList(boletos);
+        checkExecutor(executor, paralelismo);
+        return PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer(), executor, paralelismo);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único arquivo PDF gerando os boletos em
+     * paralelo com o template informado.
+     * </p>
+     *
+     * @see #groupInOnePDF(List, ExecutorService, int)
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param template Template PDF o qual os boletos serão gerados
+     * @param executor Executor onde os boletos serão gerados
+     * @param paralelismo Número máximo de tarefas simultâneas
+     *
+     * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+     *
+     * @since 0.2.3
+     */
+    public static byte[] groupInOnePdfWithTemplate(List<Boleto> boletos, byte[] template, ExecutorService executor, int paralelismo) {
+        checkBoletosList(boletos);
+        checkTemplateFile(template);
+        checkExecutor(executor, paralelismo);
+        return PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer().setTemplate(template), executor, paralelismo);
+    }
+
     /**
      * <p>
      * Agrupa os boletos da lista em um único arquivo PDF. Ex: Se a lista contém
@@ -621,6 +720,55 @@ public class BoletoViewer {
         return PdfViewerMultiProcessor.onePerPDF(boletos);
     }
 
+    /**
+     * <p>
+     * Gera um arquivo PDF para cada boleto contido na lista gerando os boletos
+     * em paralelo. A lista retornada mantém a ordem dos boletos.
+     * </p>
+     *
+     * @see #groupInOnePDF(List, ExecutorService, int)
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @param executor Executor onde os boletos serão gerados
+     * @param paralelismo Número máximo de tarefas simultâneas
+     *
+     * @return Lista contendo os arquivos PDF gerados a partir da lista de
+     * boletos
+     *
+     * @since 0.2.3
+     */
+    public static List<byte[]> onePerPDF(List<Boleto> boletos, ExecutorService executor, int paralelismo) {
+        checkBoletosList(boletos);
+        checkExecutor(executor, paralelismo);
+        return PdfViewerMultiProcessor.onePerPDF(boletos, new BoletoViewer(), executor, paralelismo);
+    }
+
+    /**
+     * <p>
+     * Gera um arquivo PDF para cada boleto contido na lista gerando os boletos
+     * em paralelo com o template informado. A lista retornada mantém a ordem
+     * dos boletos.
+     * </p>
+     *
+     * @see #groupInOnePDF(List, ExecutorService, int)
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @param template Template PDF o qual os boletos serão gerados
+     * @param executor Executor onde os boletos serão gerados
+     * @param paralelismo Número máximo de tarefas simultâneas
+     *
+     * @return Lista contendo os arquivos PDF gerados a partir da lista de
+     * boletos
+     *
+     * @since 0.2.3
+     */
+    public static List<byte[]> onePerPDFWithTemplate(List<Boleto> boletos, byte[] template, ExecutorService executor, int paralelismo) {
+        checkBoletosList(boletos);
+        checkTemplateFile(template);
+        checkExecutor(executor, paralelismo);
+        return PdfViewerMultiProcessor.onePerPDF(boletos, new BoletoViewer().setTemplate(template), executor, paralelismo);
+    }
+
     /**
      * <p>
      * Gera o arquivo PDF para cada boleto contido na lista. O nome do arquivo
@@ -1035,6 +1183,28 @@ public class BoletoViewer {
         return this;
     }
 
+    /**
+     * Define se o código de barras será desenhado como barras vetoriais
+     * diretamente no PDF ou como uma imagem (padrão false).
+     *
+     * <p>
+     * O código de barras vetorial não depende de AWT, não aloca imagens por
+     * boleto e resulta em arquivos menores. Por padrão o código de barras
+     * continua sendo uma imagem gerada via {@code java.awt}.
+     * </p>
+     *
+     * @param opcao para desenhar o código de barras vetorial (true)
+     * @return Esta instância após a operação
+     *
+     * @since 0.2.3
+     */
+    public BoletoViewer setPdfCodigoDeBarrasVetorial(boolean opcao) {
+
+        pdfViewer.setCodigoDeBarrasVetorial(opcao);
+
+        return this;
+    }
+
     /**
      * Define o template que será utilizado para construir o boleto.
      *
@@ -1272,6 +1442,40 @@ public class BoletoViewer {
         return pdfViewer.getBytes();
     }
 
+    /**
+     * <p>
+     * Adiciona o boleto como novas páginas do lote informado.
+     * </p>
+     *
+     * @param lote Lote onde o boleto será desenhado
+     *
+     * @return Este visualizador
+     *
+     * @since 0.2.3
+     */
+    protected BoletoViewer addPdfTo(PdfDocBatch lote) {
+        if (log.isDebugEnabled()) {
+            log.debug("documento instance : " + pdfViewer);
+        }
+        pdfViewer.addTo(lote);
+        return this;
+    }
+
+    /**
+     * <p>
+     * Cria um novo visualizador com o mesmo template e as mesmas opções de PDF
+     * deste, independente e sem boleto definido.
+     * </p>
+     *
+     * @return Nova instância configurada como esta
+     *
+     * @since 0.2.3
+     */
+    protected BoletoViewer copy() {
+
+        return new BoletoViewer(pdfViewer.copy());
+    }
+
     /**
      * <p>
      * Atualiza o objeto BoletoViewer mantendo as "invariantes".
@@ -1336,6 +1540,23 @@ public class BoletoViewer {
         Collections.checkNotEmpty(boletos, "A Lista de boletos está vazia!");
     }
 
+    private static void checkBoletosIterator(Iterator<Boleto> boletos) {
+
+        Objects.checkNotNull(boletos, "Iterador de boletos nulo!");
+        Objects.checkArgument(boletos.hasNext(), "O Iterador de boletos está vazio!");
+    }
+
+    private static void checkOutputStream(OutputStream out) {
+
+        Objects.checkNotNull(out, "Stream destinado a geração dos boletos nulo!");
+    }
+
+    private static void checkExecutor(ExecutorService executor, int paralelismo) {
+
+        Objects.checkNotNull(executor, "Executor nulo!");
+        Objects.checkArgument(paralelismo > 0, "O paralelismo deve ser maior que zero!");
+    }
+
     private static void checkTemplateBoletosEntries(Collection<Entry<byte[], List<Boleto>>> templatesAndBoletos) {
 
         Collections.checkNotEmpty(templatesAndBoletos, "A Coleção de pares: (template,boletos) está vazia!");
@@ -30,16 +30,20 @@ package org.jrimum.bopepo.view;
 
 import static org.jrimum.utilix.Objects.isNull;
 
+import java.awt.Image;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.CodigoDeBarras;
 import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
 import org.jrimum.bopepo.pdf.PdfDocMix;
 import org.jrimum.utilix.Exceptions;
 
@@ -66,6 +70,7 @@ class PdfViewer {
     private PdfDocMix doc;
     private Boleto boleto;
     private byte[] template;
+    private boolean codigoDeBarrasVetorial;
 
     /**
      * Para uso interno do componente
@@ -156,6 +161,25 @@ class PdfViewer {
         }
     }
 
+    /**
+     * Adiciona o boleto como novas páginas do lote informado, sem gerar um
+     * arquivo PDF só para ele.
+     *
+     * @param lote
+     *            Lote onde o boleto será desenhado
+     *
+     * @since 0.2.3
+     */
+    protected void addTo(PdfDocBatch lote) {
+        try {
+            processarPdf();
+            lote.add(doc);
+        } catch (Exception e) {
+            log.error("Erro durante a criação do PDF! " + e.getLocalizedMessage(), e);
+            Exceptions.throwIllegalStateException("Erro durante a criação do PDF! " + "Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
     /**
      * Retorna o arquivo PDF em array de bytes.
      *
@@ -344,6 +368,18 @@ class PdfViewer {
         doc.removeFields(option);
     }
 
+    /**
+     * Define se o código de barras será desenhado como barras vetoriais
+     * diretamente no PDF ou como uma imagem (padrão false).
+     *
+     * @param option para desenhar o código de barras vetorial (true)
+     *
+     * @since 0.2.3
+     */
+    protected void setCodigoDeBarrasVetorial(boolean option) {
+        this.codigoDeBarrasVetorial = option;
+    }
+
     /**
      * @return the boleto
      *
@@ -365,6 +401,23 @@ class PdfViewer {
         this.boleto = boleto;
     }
 
+    /**
+     * Cria um novo viewer com o mesmo template e as mesmas opções de PDF deste,
+     * sem boleto definido. Cada viewer criado possui o seu próprio documento,
+     * podendo ser usado em outra thread.
+     *
+     * @return Nova instância configurada como esta
+     *
+     * @since 0.2.3
+     */
+    protected PdfViewer copy() {
+        PdfViewer copy = new PdfViewer();
+        copy.template = this.template;
+        copy.doc = this.doc.copy();
+        copy.codigoDeBarrasVetorial = this.codigoDeBarrasVetorial;
+        return copy;
+    }
+
     /**
      * Processa o PDF colocando os dados do Boleto no PDF.
      *
@@ -378,9 +431,18 @@ class PdfViewer {
             template = getTemplate();
         }
         doc.withTemplate(template);
-        BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(this.resourceBundle, this.boleto).build();
+        BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(this.resourceBundle, this.boleto)
+                .withCodigoDeBarrasVetorial(codigoDeBarrasVetorial)
+                .build();
         doc.putAllTexts(builder.texts());
-        doc.putAllImages(builder.images());
+        Map<String, Image> images = builder.images();
+        if (!images.isEmpty()) {
+            doc.putAllImages(images);
+        }
+        Map<String, CodigoDeBarras> barcodes = builder.barcodes();
+        if (!barcodes.isEmpty()) {
+            doc.putAllBarcodes(barcodes);
+        }
     }
 
     /**
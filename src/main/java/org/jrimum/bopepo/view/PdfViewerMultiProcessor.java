@@ -29,21 +29,36 @@
 
 package org.jrimum.bopepo.view;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.jrimum.bopepo.Boleto;
 import org.jrimum.bopepo.pdf.Files;
 import org.jrimum.bopepo.pdf.PDFs;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
 import org.jrimum.utilix.Exceptions;
 
 /**
  * <p>
  * Classe utilizada para preencher o PDF de boletos em lote.
  * </p>
+ * <p>
+ * Nos agrupamentos em um único PDF, os recursos idênticos entre os boletos
+ * (logotipo do banco, fontes, fundo do template, etc.) são escritos uma única
+ * vez e compartilhados por todas as páginas. Os agrupamentos sequenciais
+ * desenham os boletos diretamente no documento final, com o
+ * {@link PdfDocBatch}.
+ * </p>
  * 
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
  * 
@@ -68,21 +83,13 @@ class PdfViewerMultiProcessor {
 	 */
 	protected static byte[] groupInOnePDF(List<Boleto> boletos, BoletoViewer boletoViewer) {
 		
-		byte[] file = null;
-		
-		List<byte[]> boletosEmBytes = new ArrayList<byte[]>(boletos.size());
-		
-		for (Boleto bop : boletos) {
-			boletosEmBytes.add(boletoViewer.setBoleto(bop).getPdfAsByteArray());
-		}
-		
 		try {
 			
-			file =  PDFs.mergeFiles(boletosEmBytes);
+			ByteArrayOutputStream file = new ByteArrayOutputStream();
 			
-			boletosEmBytes.clear();
+			groupInOnePDF(boletos.iterator(), boletoViewer, file);
 			
-			return file;
+			return file.toByteArray();
 			
 		} catch (Exception e) {
 			
@@ -116,6 +123,33 @@ class PdfViewerMultiProcessor {
 		}
 	}
 	
+	/**
+	 * Agrupa os boletos do iterador em um único arquivo PDF escrito diretamente
+	 * no stream de saída. Cada boleto é desenhado diretamente em novas páginas
+	 * do documento, sobre o template importado uma única vez, assim nenhum
+	 * boleto é gerado como um PDF à parte e apenas um boleto por vez é mantido
+	 * em memória.
+	 * 
+	 * @param boletos
+	 *            Iterador com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template para geração
+	 * @param out
+	 *            Stream onde o arquivo PDF será escrito
+	 * 
+	 * @since 0.2.3
+	 */
+	protected static void groupInOnePDF(Iterator<Boleto> boletos, BoletoViewer boletoViewer, OutputStream out) {
+		
+		PdfDocBatch lote = new PdfDocBatch(out);
+		
+		while (boletos.hasNext()) {
+			boletoViewer.setBoleto(boletos.next()).addPdfTo(lote);
+		}
+		
+		lote.close();
+	}
+	
 	/**
 	 * Agrupa os boletos das listas com seus respectivos templates em um único
 	 * arquivo PDF. Caso exista sequência na coleção, a mesma é mantida.
@@ -141,7 +175,7 @@ class PdfViewerMultiProcessor {
 			toMerge.add(groupInOnePDF(entry.getValue(), viewer.setTemplate(entry.getKey())));
 		}
 
-		file = PDFs.mergeFiles(toMerge);
+		file = PDFs.mergeFiles(toMerge, null, true);
 		
 		toMerge.clear();
 		
@@ -234,6 +268,116 @@ class PdfViewerMultiProcessor {
 		return arquivos;
 	}
 	
+	/**
+	 * Agrupa os boletos da lista em um único arquivo PDF, gerando os boletos
+	 * em paralelo no executor informado. A lista é dividida em no máximo
+	 * {@code paralelismo} partes contíguas, cada uma processada por uma cópia
+	 * independente do viewer, e o resultado é mesclado na ordem original da
+	 * lista.
+	 * 
+	 * @param boletos
+	 *            Lista com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template e as opções para geração
+	 * @param executor
+	 *            Executor onde os boletos serão gerados
+	 * @param paralelismo
+	 *            Número máximo de partes processadas simultaneamente
+	 * 
+	 * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+	 * 
+	 * @since 0.2.3
+	 */
+	protected static byte[] groupInOnePDF(List<Boleto> boletos, BoletoViewer boletoViewer, ExecutorService executor, int paralelismo) {
+		
+		List<byte[]> boletosEmBytes = onePerPDF(boletos, boletoViewer, executor, paralelismo);
+		
+		try {
+			
+			return PDFs.mergeFiles(boletosEmBytes, null, true);
+			
+		} catch (Exception e) {
+			
+			return Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * Gera um arquivo PDF para cada boleto contido na lista, gerando os boletos
+	 * em paralelo no executor informado. A lista é dividida em no máximo
+	 * {@code paralelismo} partes contíguas, cada uma processada por uma cópia
+	 * independente do viewer, e a lista retornada mantém a ordem original dos
+	 * boletos.
+	 * 
+	 * @param boletos
+	 *            Lista com os boletos a serem gerados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template e as opções para geração
+	 * @param executor
+	 *            Executor onde os boletos serão gerados
+	 * @param paralelismo
+	 *            Número máximo de partes processadas simultaneamente
+	 * 
+	 * @return Lista contendo os arquivos PDF gerados a partir da lista de
+	 *         boletos
+	 * 
+	 * @since 0.2.3
+	 */
+	protected static List<byte[]> onePerPDF(List<Boleto> boletos, BoletoViewer boletoViewer, ExecutorService executor, int paralelismo) {
+		
+		final int partes = Math.min(paralelismo, boletos.size());
+		
+		if (partes <= 1) {
+			return onePerPDF(boletos, boletoViewer);
+		}
+		
+		final List<Future<List<byte[]>>> resultados = new ArrayList<Future<List<byte[]>>>(partes);
+		
+		for (int parte = 0; parte < partes; parte++) {
+			
+			final List<Boleto> fatia = boletos.subList(boletos.size() * parte / partes, boletos.size() * (parte + 1) / partes);
+			final BoletoViewer viewer = boletoViewer.copy();
+			
+			resultados.add(executor.submit(new Callable<List<byte[]>>() {
+				
+				public List<byte[]> call() {
+					return onePerPDF(fatia, viewer);
+				}
+			}));
+		}
+		
+		final List<byte[]> arquivos = new ArrayList<byte[]>(boletos.size());
+		
+		try {
+			
+			for (Future<List<byte[]>> resultado : resultados) {
+				arquivos.addAll(resultado.get());
+			}
+			
+			return arquivos;
+			
+		} catch (InterruptedException e) {
+			
+			cancel(resultados);
+			Thread.currentThread().interrupt();
+			
+			return Exceptions.throwIllegalStateException("Geração dos PDFs interrompida!", e);
+			
+		} catch (ExecutionException e) {
+			
+			cancel(resultados);
+			
+			return Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getCause().getLocalizedMessage(), e.getCause());
+		}
+	}
+	
+	private static void cancel(List<? extends Future<?>> resultados) {
+		
+		for (Future<?> resultado : resultados) {
+			resultado.cancel(true);
+		}
+	}
+	
 	/**
 	 * Gera um arquivo PDF para cada template e boleto relacionado em cada
 	 * Entry. Caso exista sequência na coleção, a mesma é mantida.
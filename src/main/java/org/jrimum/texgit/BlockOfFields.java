@@ -122,18 +122,20 @@ public class BlockOfFields extends AbstractStringOfFields<FixedField<?>> impleme
         Collections.checkNotEmpty(getFields(), "Coleção de fields vazia!");
 
         if (isSizeAsDefinaed() && isLengthWithDefinaed(lineOfFields.length())) {
-            StringBuilder builder = new StringBuilder(lineOfFields);
+            //Cada campo lê apenas a sua janela da linha, sem cópias intermediárias
+            int position = 0;
+            int index = 0;
             for (FixedField<?> field : getFields()) {
+                index++;
                 try {
-                    field.read(builder.substring(0, field.getFixedLength()));
-                    builder.delete(0, field.getFixedLength());
+                    field.read(lineOfFields, position, position + field.getFixedLength());
+                    position += field.getFixedLength();
                 } catch (Exception e) {
                     throw new IllegalStateException(
                             format("Erro ao tentar ler o campo \"%s\" na posição [%s] no layout do registro.",
-                                    field.getName(), getFields().indexOf(field) + 1), e);
+                                    field.getName(), index), e);
                 }
             }
-            builder = null;
         }
     }
 
@@ -101,6 +101,13 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
      */
     protected boolean truncate;
 
+    /**
+     * Leitura especializada pelo tipo do valor (ver {@link Codec}).
+     */
+    private transient Codec codec;
+
+    private transient Class<?> codecType;
+
     /**
      *
      */
@@ -160,11 +167,45 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
         setFormatter(formatter);
     }
 
+    /**
+     * Clona o campo com uma cópia do valor quando ele não é imutável (datas e
+     * outros campos ou blocos de campos, por exemplo), para que o clone e o
+     * original, como um registro e o protótipo do seu layout, não compartilhem
+     * estado.
+     */
     @SuppressWarnings("unchecked")
     @Override
     public Field<G> clone() throws CloneNotSupportedException {
 
-        return (Field<G>) super.clone();
+        Field<G> field = (Field<G>) super.clone();
+        field.value = (G) copyOf(value);
+        return field;
+    }
+
+    private static Object copyOf(Object value) throws CloneNotSupportedException {
+
+        if (value == null || value instanceof String || value instanceof Character || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double
+                || value instanceof BigDecimal || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof Field) {
+            return ((Field<?>) value).clone();
+        }
+        if (value instanceof AbstractStringOfFields) {
+            return ((AbstractStringOfFields<?>) value).clone();
+        }
+        if (value instanceof Cloneable) {
+            try {
+                return value.getClass().getMethod("clone").invoke(value);
+            } catch (Exception e) {
+                throw new CloneNotSupportedException(format("Valor [%s] do campo não pode ser copiado!", value.getClass()));
+            }
+        }
+        return value;
     }
 
     //Problema: https://stackoverflow.com/questions/3403909/get-generic-type-of-class-at-runtime
@@ -175,48 +216,224 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
             throw new IllegalArgumentException("O tamanho da String [ "
                     + str + " ] é incompatível com o especificado [ " + length + " ]!");
         }
+        readRange(str, 0, str.length());
+    }
 
-        //Tentar inferir o tipo generico do Field<T>
-        //Melhorar isso, pois todas as formas são problematicas
-        //https://stackoverflow.com/questions/3403909/get-generic-type-of-class-at-runtime
-        //O ideal seria fixar uma campo com o valor da Class generica.
-        Class<?> valueType = String.class;//Tipo padrão
+    /**
+     * <p>
+     * Lê o valor do campo a partir do trecho <code>[start, end)</code> de uma
+     * linha, sem copiar a linha. Campos numéricos e decimais compostos apenas
+     * por dígitos são convertidos diretamente dos caracteres; somente valores
+     * texto (e datas, pelo formatador) geram uma <code>String</code>.
+     * </p>
+     *
+     * @param line Linha (ou qualquer sequência de caracteres) a ser lida
+     * @param start Início do campo na linha, inclusive
+     * @param end Fim do campo na linha, exclusive
+     *
+     * @since 0.2.3
+     */
+    public void read(CharSequence line, int start, int end) {
+        Objects.checkNotNull(line, "String inválida [null]!");
+        if (end - start != length) {
+            throw new IllegalArgumentException("O tamanho da String [ "
+                    + text(line, start, end) + " ] é incompatível com o especificado [ " + length + " ]!");
+        }
+        readRange(line, start, end);
+    }
+
+    private void readRange(CharSequence line, int start, int end) {
         try {
-            if (value != null) {
-                valueType = value.getClass();
-            } else {
-                Class<?> tmpValueType = getGenericTypeArgument(this.getClass(), 0);
+            codec().read(this, line, start, end);
+        } catch (Exception e) {
+            throw new IllegalStateException(format("Falha na leitura do campo! %s", toString()), e);
+        }
+    }
+
+    /**
+     * Codec do tipo do valor, resolvido uma vez e refeito apenas se o tipo do
+     * valor mudar.
+     */
+    private Codec codec() {
+        Class<?> valueType = (value != null) ? value.getClass() : GENERIC_TYPES.get(getClass());
+        if (valueType != codecType) {
+            codec = Codec.of(valueType);
+            codecType = valueType;
+        }
+        return codec;
+    }
+
+    /**
+     * Tipo genérico de cada classe de campo (<code>Field&lt;T&gt;</code>),
+     * inferido por reflexão uma única vez por classe; <code>String</code> por
+     * padrão.
+     */
+    private static final ClassValue<Class<?>> GENERIC_TYPES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            //Tentar inferir o tipo generico do Field<T>
+            //Melhorar isso, pois todas as formas são problematicas
+            //https://stackoverflow.com/questions/3403909/get-generic-type-of-class-at-runtime
+            //O ideal seria fixar uma campo com o valor da Class generica.
+            Class<?> valueType = String.class;//Tipo padrão
+            try {
+                Class<?> tmpValueType = getGenericTypeArgument(type, 0);
                 if (tmpValueType != null) {
                     valueType = tmpValueType;
                 }
-            }
-        } catch (Exception e) {
+            } catch (Exception e) {
 
+            }
+            return valueType;
         }
+    };
 
-        try {
-            if (this.value instanceof TextStream
-                    || TextStream.class.isAssignableFrom(valueType)) {
-                TextStream reader = (TextStream) this.value;
-                reader.read(str);
-            } else if (this.value instanceof BigDecimal
-                    || BigDecimal.class.isAssignableFrom(valueType)) {
-                readDecimalField(str);
-            } else if (this.value instanceof Date
-                    || Date.class.isAssignableFrom(valueType)) {
-                readDateField(str);
-            } else if (this.value instanceof Character
-                    || Character.class.isAssignableFrom(valueType)) {
-                readCharacter(str);
-            } else if (this.value instanceof Number
-                    || Number.class.isAssignableFrom(valueType)) {
-                readNumeric(valueType, str);
+    /**
+     * <p>
+     * Leitura especializada por tipo de valor, na mesma precedência de tipos
+     * usada desde sempre pelo campo: <code>TextStream</code>,
+     * <code>BigDecimal</code>, <code>Date</code>, <code>Character</code>,
+     * números e, por fim, texto.
+     * </p>
+     */
+    private enum Codec {
+
+        TEXT_STREAM {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                ((TextStream) field.value).read(text(line, start, end));
+            }
+        },
+        DECIMAL {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                field.readDecimalField(line, start, end);
+            }
+        },
+        DATE {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                field.readDateField(text(line, start, end));
+            }
+        },
+        CHARACTER {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                field.readCharacter(text(line, start, end));
+            }
+        },
+        INTEGER {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                long number = digits(line, start, end);
+                if (number >= 0 && number <= Integer.MAX_VALUE) {
+                    field.setReadValue(Integer.valueOf((int) number));
+                } else {
+                    String str = text(line, start, end);
+                    try {
+                        field.setReadValue(Integer.valueOf(str));
+                    } catch (NumberFormatException e) {
+                        field.throwReadError(e, str);
+                    }
+                }
+            }
+        },
+        LONG {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                long number = digits(line, start, end);
+                if (number >= 0) {
+                    field.setReadValue(Long.valueOf(number));
+                } else {
+                    String str = text(line, start, end);
+                    try {
+                        field.setReadValue(Long.valueOf(str));
+                    } catch (NumberFormatException e) {
+                        field.throwReadError(e, str);
+                    }
+                }
+            }
+        },
+        NUMBER {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                field.readNumeric(field.codecType, text(line, start, end));
+            }
+        },
+        STRING {
+            @Override
+            void read(Field<?> field, CharSequence line, int start, int end) {
+                field.readStringOrNumericField(text(line, start, end));
+            }
+        };
+
+        abstract void read(Field<?> field, CharSequence line, int start, int end);
+
+        static Codec of(Class<?> valueType) {
+            if (TextStream.class.isAssignableFrom(valueType)) {
+                return TEXT_STREAM;
+            } else if (BigDecimal.class.isAssignableFrom(valueType)) {
+                return DECIMAL;
+            } else if (Date.class.isAssignableFrom(valueType)) {
+                return DATE;
+            } else if (Character.class.isAssignableFrom(valueType)) {
+                return CHARACTER;
+            } else if (Integer.class.equals(valueType)) {
+                return INTEGER;
+            } else if (Long.class.equals(valueType)) {
+                return LONG;
+            } else if (Number.class.isAssignableFrom(valueType)) {
+                return NUMBER;
             } else {
-                readStringOrNumericField(str);
+                return STRING;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setReadValue(Object value) {
+        this.value = (G) value;
+    }
+
+    /**
+     * Trecho da linha como <code>String</code>; para uma <code>String</code>
+     * lida por inteiro não há cópia.
+     */
+    private static String text(CharSequence line, int start, int end) {
+        return line.subSequence(start, end).toString();
+    }
+
+    /**
+     * Valor dos dígitos ASCII do trecho ou -1 se houver outro caractere ou
+     * mais de 18 dígitos (fora da faixa segura de um <code>long</code>).
+     */
+    private static long digits(CharSequence line, int start, int end) {
+        if (end - start > 18 || end <= start) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readDecimalField(CharSequence line, int start, int end) {
+        if (formatter instanceof DecimalFormat) {
+            DecimalFormat decimalFormat = (DecimalFormat) formatter;
+            long number = digits(line, start, end);
+            if (number >= 0 && decimalFormat.getMultiplier() == 1 && !decimalFormat.isParseBigDecimal()) {
+                //Mesmo resultado de new BigDecimal(number).movePointLeft(fractionDigits)
+                value = (G) BigDecimal.valueOf(number, decimalFormat.getMaximumFractionDigits());
+                return;
             }
-        } catch (Exception e) {
-            throw new IllegalStateException(format("Falha na leitura do campo! %s", toString()), e);
         }
+        readDecimalField(text(line, start, end));
     }
 
     @SuppressWarnings("unchecked")
@@ -332,7 +549,7 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
                             + " ] é incompatível com o especificado [" + length + "]!");
                 }
             }
-            return StringUtil.eliminateAccent(str).toUpperCase();
+            return StringUtil.eliminateAccentAndUpperCase(str);
         } catch (Exception e) {
             throw new IllegalStateException(format("Falha na escrita do campo escrita! %s", toString()), e);
         }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 15:02:10
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 15:02:10
+ *
+ */
+package org.jrimum.texgit;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * Acesso pré-compilado a um campo de um {@link Record}: guarda a posição do
+ * campo no layout do registro, evitando a busca pelo nome.
+ * </p>
+ *
+ * <p>
+ * Obtido por {@link Record#getHandle(String)}, vale para todos os registros
+ * que compartilham o mesmo layout; em outros registros o campo é buscado pelo
+ * nome.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public final class FieldHandle {
+
+    final String name;
+
+    final Map<String, Integer> fieldIndex;
+
+    final int position;
+
+    FieldHandle(String name, Map<String, Integer> fieldIndex, int position) {
+        this.name = name;
+        this.fieldIndex = fieldIndex;
+        this.position = position;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldHandle [name=" + name + ", position=" + position + "]";
+    }
+}
@@ -123,6 +123,21 @@ public class FixedField<G> extends Field<G> implements IFixedField<G> {
         }
     }
 
+    /**
+     * @see org.jrimum.texgit.Field#read(java.lang.CharSequence, int, int)
+     */
+    @Override
+    public void read(CharSequence line, int start, int end) {
+
+        Objects.checkNotNull(line, "String inválida [null]!");
+
+        if (end - start == getFixedLength()) {
+            super.read(line, start, end);
+        } else {
+            throw new IllegalArgumentException(format("Tamanho da string [%s] diferente do especificado [%s]! %s", end - start, getFixedLength(), toString()));
+        }
+    }
+
     /**
      * @see org.jrimum.texgit.type.component.Field#write()
      */
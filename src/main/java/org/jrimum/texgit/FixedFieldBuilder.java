@@ -43,6 +43,7 @@ import java.util.Date;
 
 import org.jrimum.texgit.TexgitException;
 import org.jrimum.utilix.Dates;
+import org.jrimum.utilix.ImmutableDateFormat;
 
 /**
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
@@ -52,6 +53,13 @@ class FixedFieldBuilder {
 
 	private final static String BASE_DECIMAL_FORMAT = "0.";
 	
+	/**
+	 * Letras dos padrões de data somente numéricos, que o
+	 * <code>ImmutableDateFormat</code> lê e escreve como o
+	 * <code>SimpleDateFormat</code>.
+	 */
+	private final static String NUMERIC_DATE_LETTERS = "dMyHhms";
+	
 	static FixedField<?> build(MetaField metaField) {
 
 		FixedField<?> fixedField = null;
@@ -214,7 +222,10 @@ class FixedFieldBuilder {
 		switch (type) {
 
 		case DATE:
-			format = new SimpleDateFormat(strFormat);
+			if (isNumericDatePattern(strFormat))
+				format = ImmutableDateFormat.of(strFormat);
+			else
+				format = new SimpleDateFormat(strFormat);
 			break;
 		case DECIMAL:
 			format = new DecimalFormat(strFormat);
@@ -224,6 +235,25 @@ class FixedFieldBuilder {
 		return format;
 	}
 
+	/**
+	 * Padrões como <tt>ddMMyy</tt> ou <tt>HHmmss</tt> usam o formatador
+	 * imutável, compartilhado pelos registros criados do mesmo protótipo;
+	 * meses por extenso, milissegundos e textos entre aspas continuam com o
+	 * <code>SimpleDateFormat</code>.
+	 */
+	private static boolean isNumericDatePattern(String strFormat) {
+
+		if (strFormat.contains("MMM"))
+			return false;
+
+		for (char c : strFormat.toCharArray()) {
+			if (c == '\'' || (Character.isLetter(c) && NUMERIC_DATE_LETTERS.indexOf(c) < 0))
+				return false;
+		}
+
+		return true;
+	}
+
 	private static String buildFormat(EnumFormats format, EnumFormatsTypes type) {
 
 		String strFormat = EMPTY;
@@ -34,11 +34,19 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import org.jrimum.utilix.FileUtil;
+import org.jrimum.utilix.Objects;
+
 /**
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
  *
@@ -115,7 +123,6 @@ public class FlatFile implements org.jrimum.texgit.IFlatFile<org.jrimum.texgit.I
             if (!str.isEmpty()) {
                 String line = null;
                 int lineIndex = 0;
-                FixedField<String> typeRecord = null;
                 Record record = null;
 
                 for (String id : recordsOrder) {
@@ -132,8 +139,7 @@ public class FlatFile implements org.jrimum.texgit.IFlatFile<org.jrimum.texgit.I
                                     line = str.get(lineIndex);
                                 }
 
-                                typeRecord = record.readID(line);
-                                read = record.getIdType().getValue().equals(typeRecord.getValue()) && (lineIndex < str.size());
+                                read = (lineIndex < str.size()) && record.matchesId(line);
 
                                 if (read) {
                                     record.read(line);
@@ -150,8 +156,7 @@ public class FlatFile implements org.jrimum.texgit.IFlatFile<org.jrimum.texgit.I
                         } else {
                             if ((lineIndex < str.size())) {
                                 line = str.get(lineIndex);
-                                typeRecord = record.readID(line);
-                                if (record.getIdType().getValue().equals(typeRecord.getValue())) {
+                                if (record.matchesId(line)) {
                                     record.read(line);
                                     lineIndex++;
                                     addRecord(record);
@@ -171,6 +176,111 @@ public class FlatFile implements org.jrimum.texgit.IFlatFile<org.jrimum.texgit.I
         }
     }
 
+    /**
+     * @see IFlatFile#read(Reader, RecordHandler)
+     */
+    public void read(Reader reader, RecordHandler<? super IRecord> handler) throws IOException {
+        Objects.checkNotNull(reader, "Reader nulo!");
+        Objects.checkNotNull(handler, "RecordHandler nulo!");
+
+        LineSource lines = new LineSource(reader);
+        Record record = null;
+
+        for (String id : recordsOrder) {
+            boolean read = true;
+            while (read && isNotNull(lines.peek())) {
+                if (isNull(record)) {
+                    record = recordFactory.create(id);
+                }
+                read = record.matchesId(lines.peek());
+                if (read) {
+                    readRecord(record, lines, handler);
+                    record = null;
+                    read = isRepitable(id);
+                }
+            }
+            record = null;
+        }
+    }
+
+    /**
+     * Lê a linha corrente no registro e o entrega ao handler; se for cabeça de
+     * grupo, lê e entrega em seguida os seus registros internos, sem anexá-los
+     * à cabeça, para que um grupo inteiro (um lote do CNAB 240, por exemplo)
+     * não fique em memória.
+     */
+    private void readRecord(Record record, LineSource lines, RecordHandler<? super IRecord> handler) throws IOException {
+        try {
+            record.read(lines.next());
+        } catch (Exception e) {
+            throw new IllegalStateException(format(
+                    "Erro ao tentar ler o registro \"%s\" na linha [%s].", record.getName(), lines.number), e);
+        }
+        handler.handle(record);
+        if (record.isHeadOfGroup() && isNotNull(record.getDeclaredInnerRecords())) {
+            for (String id : record.getDeclaredInnerRecords()) {
+                boolean read = true;
+                while (read && isNotNull(lines.peek())) {
+                    Record innerRec = recordFactory.create(id);
+                    read = innerRec.matchesId(lines.peek());
+                    if (read) {
+                        readRecord(innerRec, lines, handler);
+                        read = record.isRepitable(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @see IFlatFile#write(Iterator, Writer)
+     */
+    public void write(Iterator<? extends IRecord> records, Writer writer) throws IOException {
+        write(records, writer, FileUtil.NEW_LINE);
+    }
+
+    /**
+     * @see IFlatFile#write(Iterator, Writer, String)
+     */
+    public void write(Iterator<? extends IRecord> records, Writer writer, String lineEnding) throws IOException {
+        Objects.checkNotNull(records, "Iterator nulo!");
+        Objects.checkNotNull(writer, "Writer nulo!");
+
+        int order = 0;
+        String last = null;
+
+        while (records.hasNext()) {
+            Record rec = Record.class.cast(records.next());
+            int index = recordsOrder.indexOf(rec.getName());
+            if (index < 0) {
+                throw new IllegalArgumentException("Record fora de scopo!");
+            }
+            if (index < order || (rec.getName().equals(last) && !isRepitable(last))) {
+                throw new IllegalStateException(format(
+                        "Registro \"%s\" fora da ordem do layout %s.", rec.getName(), recordsOrder));
+            }
+            order = index;
+            last = rec.getName();
+
+            String line;
+            try {
+                line = rec.write();
+            } catch (Exception e) {
+                throw new IllegalStateException(format(
+                        "Erro ao tentar escrever o registro \"%s\".", rec.getName()), e);
+            }
+            writer.write(line);
+            writer.write(lineEnding);
+
+            if (rec.isHeadOfGroup() && rec.hasInnerRecords()) {
+                for (String inner : rec.writeInnerRecords(lineEnding)) {
+                    writer.write(inner);
+                }
+            }
+        }
+        writer.flush();
+    }
+
     public List<String> write() {
         return write(EMPTY);
     }
@@ -297,4 +407,37 @@ public class FlatFile implements org.jrimum.texgit.IFlatFile<org.jrimum.texgit.I
         this.recordsOrder = recordsOrder;
     }
 
+    /**
+     * Linhas de um <code>Reader</code> com uma linha à frente, para que o
+     * registro seguinte seja identificado antes de ser consumido.
+     */
+    private static final class LineSource {
+
+        private final BufferedReader reader;
+
+        private String next;
+
+        private boolean loaded;
+
+        private int number;
+
+        LineSource(Reader reader) {
+            this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        }
+
+        String peek() throws IOException {
+            if (!loaded) {
+                next = reader.readLine();
+                loaded = true;
+            }
+            return next;
+        }
+
+        String next() throws IOException {
+            String line = peek();
+            loaded = false;
+            number++;
+            return line;
+        }
+    }
 }
@@ -46,12 +46,13 @@ public class FlatFileBuilder {
 
 	static FlatFile build(MetaFlatFile mFlatFile) {
 		
-		FlatFile ff = null;
+		return compile(mFlatFile).newFlatFile();
+	}
+
+	static FlatFileLayout compile(MetaFlatFile mFlatFile) {
 		
 		List<MetaRecord> metaRecords = mFlatFile.getGroupOfRecords().getRecords();
 
-		ff = new FlatFile(new RecordFactory(metaRecords));
-		
 		Set<String> repitables = new HashSet<String>();
 		
 		List<String> recordsOrder = new ArrayList<String>();
@@ -70,10 +71,7 @@ public class FlatFileBuilder {
 			}
 		}
 			
-		ff.setRecordsOrder(recordsOrder);
-		ff.setRepitablesRecords(repitables);
-		
-		return ff;
+		return new FlatFileLayout(new RecordFactory(metaRecords), recordsOrder, repitables);
 	}
 	
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 19:04:37
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 19:04:37
+ *
+ */
+package org.jrimum.texgit;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Layout de um arquivo já compilado a partir do seu <code>MetaFlatFile</code>:
+ * ordem dos registros, registros repetíveis e a fábrica de registros por
+ * protótipo. É imutável e pode ser compartilhado entre threads; cada
+ * {@link FlatFile} criado tem apenas a sua própria lista de registros.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+final class FlatFileLayout {
+
+	private final RecordFactory recordFactory;
+
+	private final List<String> recordsOrder;
+
+	private final Set<String> repitablesRecords;
+
+	FlatFileLayout(RecordFactory recordFactory, List<String> recordsOrder, Set<String> repitablesRecords) {
+
+		this.recordFactory = recordFactory;
+		this.recordsOrder = unmodifiableList(new ArrayList<String>(recordsOrder));
+		this.repitablesRecords = unmodifiableSet(new HashSet<String>(repitablesRecords));
+	}
+
+	FlatFile newFlatFile() {
+
+		FlatFile ff = new FlatFile(recordFactory);
+
+		ff.setRecordsOrder(recordsOrder);
+		ff.setRepitablesRecords(repitablesRecords);
+
+		return ff;
+	}
+
+}
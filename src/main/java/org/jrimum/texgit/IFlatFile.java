@@ -28,7 +28,14 @@
  */
 package org.jrimum.texgit;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
@@ -63,4 +70,77 @@ public interface IFlatFile<G extends IRecord> extends TextListStream {
 
 	public Collection<G> getAllRecords();
 
+	// Fluxo de registros, sem manter o arquivo em memória
+
+	/**
+	 * <p>
+	 * Lê as linhas do <code>reader</code> na ordem dos registros do layout,
+	 * entregando cada registro ao <code>handler</code> assim que é lido. Uma
+	 * cabeça de grupo é entregue antes dos seus registros internos, que chegam
+	 * em seguida, na ordem do arquivo, sem serem anexados a ela.
+	 * </p>
+	 * 
+	 * <p>
+	 * A implementação padrão lê todas as linhas com {@link #read(Object)} e
+	 * entrega os registros de {@link #getAllRecords()}; implementações como
+	 * {@link FlatFile} não guardam os registros, logo a memória usada não
+	 * depende do tamanho do arquivo lido.
+	 * </p>
+	 * 
+	 * @since 0.2.3
+	 */
+	default void read(Reader reader, RecordHandler<? super G> handler) throws IOException {
+
+		BufferedReader lines = new BufferedReader(reader);
+		List<String> str = new ArrayList<String>();
+		for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+			str.add(line);
+		}
+
+		read(str);
+
+		for (G record : getAllRecords()) {
+			handler.handle(record);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Escreve no <code>writer</code>, na ordem em que são iterados, os
+	 * registros informados e seus registros internos, com o fim de linha
+	 * <code>\r\n</code>. A ordem deve respeitar a ordem dos registros do
+	 * layout e apenas os registros repetíveis podem se repetir.
+	 * </p>
+	 * 
+	 * @since 0.2.3
+	 */
+	default void write(Iterator<? extends G> records, Writer writer) throws IOException {
+
+		write(records, writer, "\r\n");
+	}
+
+	/**
+	 * <p>
+	 * A implementação padrão inclui os registros no arquivo com
+	 * {@link #addRecord(IRecord)} e escreve as linhas de {@link #write()};
+	 * {@link FlatFile} escreve cada registro sem guardá-lo.
+	 * </p>
+	 * 
+	 * @see #write(Iterator, Writer)
+	 * 
+	 * @since 0.2.3
+	 */
+	default void write(Iterator<? extends G> records, Writer writer, String lineEnding) throws IOException {
+
+		while (records.hasNext()) {
+			addRecord(records.next());
+		}
+
+		for (String line : write()) {
+			writer.write(line);
+			writer.write(lineEnding);
+		}
+		writer.flush();
+	}
+
 }
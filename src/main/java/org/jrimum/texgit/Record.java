@@ -35,7 +35,10 @@ import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jrimum.utilix.Objects;
@@ -63,6 +66,12 @@ public class Record extends BlockOfFields implements IRecord {
 
     protected List<String> declaredInnerRecords;
 
+    /**
+     * Posição de cada campo pelo nome; imutável e compartilhado pelos
+     * registros de um mesmo layout.
+     */
+    protected Map<String, Integer> fieldIndex;
+
     public Record() {
         super();
     }
@@ -77,8 +86,29 @@ public class Record extends BlockOfFields implements IRecord {
 
     @Override
     public Record clone() throws CloneNotSupportedException {
-        //TODO Outros atributos
-        return (Record) super.clone();
+        Record rec = (Record) super.clone();
+        //idType e sequencialNumber apontam para os campos clonados na mesma posição
+        rec.idType = cloned(rec, idType);
+        rec.sequencialNumber = cloned(rec, sequencialNumber);
+        if (isNotNull(innerRecords)) {
+            rec.innerRecords = new ArrayList<IRecord>(innerRecords);
+        }
+        //Metadados do layout (nome, índice e registros declarados) são compartilhados
+        return rec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <G> FixedField<G> cloned(Record rec, FixedField<G> ff) {
+        if (isNull(ff)) {
+            return null;
+        }
+        List<FixedField<?>> fields = getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i) == ff) {
+                return (FixedField<G>) rec.getFields().get(i);
+            }
+        }
+        return ff;
     }
 
     @SuppressWarnings("null")
@@ -107,6 +137,51 @@ public class Record extends BlockOfFields implements IRecord {
         return ffID;
     }
 
+    /**
+     * <p>
+     * Verifica se a linha é deste registro comparando o valor do campo
+     * identificador diretamente com a janela correspondente da linha, sem
+     * clonar o campo nem copiar a linha.
+     * </p>
+     *
+     * @since 0.2.3
+     */
+    public boolean matchesId(String lineRecord) {
+        return isNotNull(getIdType()) && matches(getIdType(), getIdPosition(), lineRecord);
+    }
+
+    /**
+     * <p>
+     * Verifica se o valor do campo é igual ao lido na sua posição da linha,
+     * como em <code>ff.equalsValue(get(ff, lineRecord))</code>. Linhas curtas
+     * demais não conferem.
+     * </p>
+     *
+     * @since 0.2.3
+     */
+    public boolean matches(FixedField<?> ff, String lineRecord) {
+        return isNotNull(ff) && matches(ff, getPosition(ff), lineRecord);
+    }
+
+    private static boolean matches(FixedField<?> ff, int position, String lineRecord) {
+        Object expected = ff.getValue();
+        Integer length = ff.getFixedLength();
+        if (isNull(expected) || isNull(length) || position < 0 || lineRecord.length() < position + length) {
+            return false;
+        }
+        if (expected instanceof String && !ff.isBlankAccepted()) {
+            String str = (String) expected;
+            return str.length() == length && lineRecord.regionMatches(position, str, 0, length);
+        }
+        try {
+            FixedField<?> read = ff.clone();
+            read.read(lineRecord, position, position + length);
+            return isNotNull(read.getValue()) && read.getValue().equals(expected);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     @SuppressWarnings("null")
     public FixedField<String> get(FixedField ff, String lineRecord) {
         if (ff == null) {
@@ -125,7 +200,12 @@ public class Record extends BlockOfFields implements IRecord {
     public IFixedField<?> getField(String fieldName) {
         IFixedField<?> field = null;
         if (isNotBlank(fieldName)) {
-            if (!getFields().isEmpty()) {
+            Integer position = getFieldIndex().get(fieldName);
+            if (position != null) {
+                field = getField(fieldName, position);
+            }
+            if (field == null && !getFields().isEmpty()) {
+                //Campos incluídos após a indexação
                 for (FixedField<?> ff : this.getFields()) {
                     if (ff.getName().equals(fieldName)) {
                         field = ff;
@@ -137,6 +217,80 @@ public class Record extends BlockOfFields implements IRecord {
         return field;
     }
 
+    /**
+     * Campo pelo acesso pré-compilado obtido em {@link #getHandle(String)}.
+     */
+    public IFixedField<?> getField(FieldHandle handle) {
+        IFixedField<?> field = null;
+        if (isNotNull(handle)) {
+            if (handle.fieldIndex == getFieldIndex()) {
+                field = getField(handle.name, handle.position);
+            }
+            if (field == null) {
+                field = getField(handle.name);
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Acesso pré-compilado ao campo, válido para os registros que compartilham
+     * o layout deste; <code>null</code> se o campo não existir.
+     */
+    public FieldHandle getHandle(String fieldName) {
+        FieldHandle handle = null;
+        if (isNotBlank(fieldName)) {
+            Map<String, Integer> index = getFieldIndex();
+            Integer position = index.get(fieldName);
+            if (position != null) {
+                handle = new FieldHandle(fieldName, index, position);
+            }
+        }
+        return handle;
+    }
+
+    private FixedField<?> getField(String fieldName, int position) {
+        if (position < fields.size()) {
+            FixedField<?> ff = fields.get(position);
+            if (ff != null && fieldName.equals(ff.getName())) {
+                return ff;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Índice nome -> posição dos campos, construído na primeira consulta caso
+     * não tenha sido compartilhado pelo layout.
+     */
+    public Map<String, Integer> getFieldIndex() {
+        if (fieldIndex == null) {
+            fieldIndex = indexFields(getFields());
+        }
+        return fieldIndex;
+    }
+
+    protected void setFieldIndex(Map<String, Integer> fieldIndex) {
+        this.fieldIndex = fieldIndex;
+    }
+
+    /**
+     * Índice imutável nome -> posição; para nomes repetidos vale o primeiro
+     * campo, como na busca por nome.
+     */
+    public static Map<String, Integer> indexFields(List<? extends IField<?>> fields) {
+        Map<String, Integer> index = new HashMap<String, Integer>();
+        if (isNotNull(fields)) {
+            for (int i = 0; i < fields.size(); i++) {
+                IField<?> f = fields.get(i);
+                if (isNotNull(f) && isNotNull(f.getName()) && !index.containsKey(f.getName())) {
+                    index.put(f.getName(), i);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
     public boolean isMyField(String idName) {
         boolean is = false;
         if (isNotBlank(idName)) {
@@ -189,7 +343,6 @@ public class Record extends BlockOfFields implements IRecord {
             if (isNotNull(record.getDeclaredInnerRecords()) && !record.getDeclaredInnerRecords().isEmpty()) {
                 boolean read = true;
                 String line = null;
-                FixedField<String> typeRecord = null;
                 Record innerRec = null;
 
                 for (String id : record.getDeclaredInnerRecords()) {
@@ -203,8 +356,7 @@ public class Record extends BlockOfFields implements IRecord {
                                 if (lineIndex < lines.size()) {
                                     line = lines.get(lineIndex);
                                 }
-                                typeRecord = innerRec.readID(line);
-                                read = innerRec.getIdType().getValue().equals(typeRecord.getValue()) && (lineIndex < lines.size());
+                                read = innerRec.matchesId(line) && (lineIndex < lines.size());
                                 if (read) {
                                     innerRec.read(line);
                                     lineIndex++;
@@ -220,8 +372,7 @@ public class Record extends BlockOfFields implements IRecord {
                         } else {
                             if ((lineIndex < lines.size())) {
                                 line = lines.get(lineIndex);
-                                typeRecord = innerRec.readID(line);
-                                if (innerRec.getIdType().getValue().equals(typeRecord.getValue())) {
+                                if (innerRec.matchesId(line)) {
                                     innerRec.read(line);
                                     lineIndex++;
                                     record.addInnerRecord(innerRec);
@@ -401,6 +552,32 @@ public class Record extends BlockOfFields implements IRecord {
         return this;
     }
 
+    @SuppressWarnings("unchecked")
+    public <G> G getValue(FieldHandle handle) {
+
+        G value = null;
+
+        IField<?> f = getField(handle);
+
+        if (isNotNull(f)) {
+            value = (G) f.getValue();
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <G> IRecord setValue(FieldHandle handle, G value) {
+
+        IField<G> f = (IField<G>) getField(handle);
+
+        if (isNotNull(f)) {
+            f.setValue(value);
+        }
+
+        return this;
+    }
+
     public boolean hasInnerRecords() {
         return getInnerRecords() != null && !getInnerRecords().isEmpty();
     }
@@ -28,12 +28,17 @@
  */
 package org.jrimum.texgit;
 
+import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.jrimum.utilix.Objects.isNotNull;
 
+import java.text.Format;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jrimum.utilix.ImmutableDateFormat;
 
 /**
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
@@ -43,6 +48,13 @@ public class RecordFactory implements org.jrimum.texgit.IRecordFactory<Record> {
 
     private Map<String, MetaRecord> name_record;
 
+    /**
+     * Protótipo de cada registro, montado uma única vez a partir do
+     * <code>MetaRecord</code>; novos registros são clones do protótipo e
+     * compartilham o índice dos campos.
+     */
+    private final Map<String, Record> name_prototype = new ConcurrentHashMap<String, Record>();
+
     RecordFactory(List<MetaRecord> metaRecords) {
 
         if (isNotNull(metaRecords)) {
@@ -90,7 +102,24 @@ public class RecordFactory implements org.jrimum.texgit.IRecordFactory<Record> {
 
         if (isNotBlank(name)) {
             if (name_record.containsKey(name)) {
-                record = RecordBuilder.build(name_record.get(name));
+                Record prototype = name_prototype.get(name);
+                if (prototype == null) {
+                    prototype = RecordBuilder.build(name_record.get(name));
+                    prototype.setFieldIndex(Record.indexFields(prototype.getFields()));
+                    name_prototype.put(name, prototype);
+                }
+                try {
+                    record = prototype.clone();
+                } catch (CloneNotSupportedException e) {
+                    throw new UnsupportedOperationException(format("Quebra de contrato [%s] não suporta clonagem!", prototype.getClass()), e);
+                }
+                //Os formatadores mutáveis do java.text não são thread-safe: cada registro tem os seus
+                for (FixedField<?> field : record.getFields()) {
+                    Format formatter = field.getFormatter();
+                    if (isNotNull(formatter) && !(formatter instanceof ImmutableDateFormat)) {
+                        field.setFormatter((Format) formatter.clone());
+                    }
+                }
             }
         }
 
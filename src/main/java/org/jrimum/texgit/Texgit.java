@@ -121,4 +121,26 @@ public final class Texgit {
         return null;
     }
 
+    /**
+     * <p>
+     * Cria um arquivo a partir de um dos layouts distribuídos no diretório
+     * <code>layouts</code> do classpath, como
+     * <code>createFlatFileOfLayout("layout_referencia_febraban_cnab_400")</code>.
+     * O layout é lido, validado e compilado uma única vez e reutilizado nas
+     * chamadas seguintes.
+     * </p>
+     *
+     * @since 0.2.3
+     */
+    public static final IFlatFile<IRecord> createFlatFileOfLayout(String layoutName)
+            throws TexgitException {
+
+        if (isNotBlank(layoutName)) {
+
+            return TexgitManager.buildFlatFileOfLayout(layoutName);
+        }
+
+        return null;
+    }
+
 }
@@ -28,7 +28,14 @@
  */
 package org.jrimum.texgit;
 
+import static java.lang.String.format;
+
 import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jrimum.utilix.ClassLoaders;
 
 import org.jrimum.texgit.TexgitException;
 import org.jrimum.texgit.IFlatFile;
@@ -40,6 +47,18 @@ import org.jrimum.texgit.IRecord;
  */
 public class TexgitManager {
 
+	/**
+	 * Diretório, no classpath, dos layouts distribuídos com a biblioteca.
+	 */
+	static final String LAYOUTS_DIR = "layouts/";
+
+	static final String LAYOUT_EXTENSION = ".txg.xml";
+
+	/**
+	 * Layouts já lidos, validados e compilados, pelo nome do recurso.
+	 */
+	private static final ConcurrentMap<String, FlatFileLayout> layouts = new ConcurrentHashMap<String, FlatFileLayout>();
+
 	public static IFlatFile<org.jrimum.texgit.IRecord> buildFlatFile(InputStream xmlDefStream) {
 
 		IFlatFile<IRecord> iFlatFile = null;
@@ -56,4 +75,50 @@ public class TexgitManager {
 
 		return iFlatFile;
 	}
+
+	/**
+	 * <p>
+	 * Arquivo de um layout do diretório <code>layouts</code> do classpath,
+	 * informado pelo nome com ou sem a extensão <code>.txg.xml</code>. O XML é
+	 * lido e validado apenas na primeira vez; as demais chamadas reutilizam o
+	 * layout compilado e seus protótipos de registros.
+	 * </p>
+	 * 
+	 * @since 0.2.3
+	 */
+	public static IFlatFile<IRecord> buildFlatFileOfLayout(String layoutName) {
+
+		String resourceName = LAYOUTS_DIR + (layoutName.endsWith(LAYOUT_EXTENSION) ? layoutName : layoutName + LAYOUT_EXTENSION);
+
+		FlatFileLayout layout = layouts.get(resourceName);
+
+		if (layout == null) {
+			layout = compile(resourceName);
+			FlatFileLayout current = layouts.putIfAbsent(resourceName, layout);
+			if (current != null) {
+				layout = current;
+			}
+		}
+
+		return layout.newFlatFile();
+	}
+
+	private static FlatFileLayout compile(String resourceName) {
+
+		URL url = ClassLoaders.getResource(resourceName, Texgit.class);
+
+		if (url == null) {
+			throw new TexgitException(format("Layout [%s] não encontrado no classpath!", resourceName));
+		}
+
+		try (InputStream in = url.openStream()) {
+
+			return FlatFileBuilder.compile(TexgitXmlReader.parse(in).getFlatFile());
+
+		} catch (TexgitException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new TexgitException(e);
+		}
+	}
 }
\ No newline at end of file
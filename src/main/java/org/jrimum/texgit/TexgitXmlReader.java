@@ -35,14 +35,22 @@ import java.io.InputStream;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.JAXBIntrospector;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.sax.SAXSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
 import org.jrimum.texgit.Texgit;
 import org.jrimum.texgit.TexgitException;
 import org.jrimum.utilix.ClassLoaders;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
 
 
 
@@ -52,6 +60,25 @@ import org.xml.sax.SAXException;
  */
 class TexgitXmlReader {
 
+	/**
+	 * Namespace do esquema.
+	 */
+	static final String NAMESPACE = "http://jrimum.org/texgit";
+
+	/**
+	 * Namespace das primeiras versões do esquema, ainda usado pela maioria dos
+	 * layouts distribuídos e lido como {@link #NAMESPACE}.
+	 */
+	static final String LEGACY_NAMESPACE = "http://gilmatryx.googlepages.com/Texgit";
+
+	/*
+	 * Contexto JAXB e esquema compilado são imutáveis e thread-safe, por isso
+	 * são criados uma única vez; apenas o Unmarshaller é criado a cada leitura.
+	 */
+	private static volatile JAXBContext jaxbContext;
+
+	private static volatile Schema schema;
+
 	public static MetaTexgit parse(InputStream xmlDefStream) throws TexgitException {
 
 		MetaTexgit txg = null;
@@ -60,21 +87,19 @@ class TexgitXmlReader {
 
 			try {
 
-				JAXBContext aJaxbContext = JAXBContext
-						.newInstance(MetaTexgit.class);
+				Unmarshaller aUnmarshaller = getJaxbContext().createUnmarshaller();
+
+				aUnmarshaller.setSchema(getSchema());
 
-				Unmarshaller aUnmarshaller = aJaxbContext.createUnmarshaller();
+				aUnmarshaller.setEventHandler(new TexgitSchemaValidator());
 
-				SchemaFactory aSchemaFactory = SchemaFactory
-						.newInstance(W3C_XML_SCHEMA_NS_URI);
-				
-				Schema schema = aSchemaFactory.newSchema(ClassLoaders.getResource("TexgitSchema.xsd",Texgit.class));
+				SAXSource source = new SAXSource(new LegacyNamespaceFilter(newXmlReader()), new InputSource(xmlDefStream));
 
-				aUnmarshaller.setSchema(schema);
+				txg = (MetaTexgit) JAXBIntrospector.getValue(aUnmarshaller.unmarshal(source));
 
-				aUnmarshaller.setEventHandler(new TexgitSchemaValidator());
+			} catch (ParserConfigurationException e) {
 
-				txg = (MetaTexgit) aUnmarshaller.unmarshal(xmlDefStream);
+				throw new TexgitLanguageException(e);
 
 			} catch (SAXException e) {
 
@@ -90,4 +115,82 @@ class TexgitXmlReader {
 		return txg;
 	}
 
+	/**
+	 * O <code>ObjectFactory</code> registra o elemento raiz no namespace do
+	 * esquema (<code>http://jrimum.org/texgit</code>).
+	 */
+	private static JAXBContext getJaxbContext() throws JAXBException {
+
+		JAXBContext context = jaxbContext;
+
+		if (context == null) {
+			synchronized (TexgitXmlReader.class) {
+				context = jaxbContext;
+				if (context == null) {
+					context = JAXBContext.newInstance(MetaTexgit.class, ObjectFactory.class);
+					jaxbContext = context;
+				}
+			}
+		}
+
+		return context;
+	}
+
+	private static XMLReader newXmlReader() throws ParserConfigurationException, SAXException {
+
+		SAXParserFactory factory = SAXParserFactory.newInstance();
+
+		factory.setNamespaceAware(true);
+
+		return factory.newSAXParser().getXMLReader();
+	}
+
+	private static Schema getSchema() throws SAXException {
+
+		Schema compiled = schema;
+
+		if (compiled == null) {
+			synchronized (TexgitXmlReader.class) {
+				compiled = schema;
+				if (compiled == null) {
+					SchemaFactory aSchemaFactory = SchemaFactory
+							.newInstance(W3C_XML_SCHEMA_NS_URI);
+					compiled = aSchemaFactory.newSchema(ClassLoaders.getResource("TexgitSchema.xsd",Texgit.class));
+					schema = compiled;
+				}
+			}
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Troca o namespace legado pelo namespace do esquema antes da validação.
+	 */
+	private static final class LegacyNamespaceFilter extends XMLFilterImpl {
+
+		LegacyNamespaceFilter(XMLReader parent) {
+			super(parent);
+		}
+
+		private static String namespace(String uri) {
+			return LEGACY_NAMESPACE.equals(uri) ? NAMESPACE : uri;
+		}
+
+		@Override
+		public void startPrefixMapping(String prefix, String uri) throws SAXException {
+			super.startPrefixMapping(prefix, namespace(uri));
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+			super.startElement(namespace(uri), localName, qName, atts);
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			super.endElement(namespace(uri), localName, qName);
+		}
+	}
+
 }
@@ -66,17 +66,17 @@ public class DateUtil {
 	/**
 	 * Formatador de datas no padrão dd/MM/yyyy.
 	 */
-	public static final DateFormat FORMAT_DD_MM_YYYY = new SimpleDateFormat("dd/MM/yyyy");
+	public static final DateFormat FORMAT_DD_MM_YYYY = ImmutableDateFormat.of("dd/MM/yyyy");
 	
 	/**
 	 * Formatador de datas no padrão ddMMyy.
 	 */
-	public static final DateFormat FORMAT_DDMMYY = new SimpleDateFormat("ddMMyy");
+	public static final DateFormat FORMAT_DDMMYY = ImmutableDateFormat.of("ddMMyy");
 	
 	/**
 	 * Formatador de datas no padrão yyMMdd.
 	 */
-	public static final DateFormat FORMAT_YYMMDD = new SimpleDateFormat("yyMMdd");
+	public static final DateFormat FORMAT_YYMMDD = ImmutableDateFormat.of("yyMMdd");
 	
 	/**
 	 * Representa uma data inexistente. Usada em casos que não se pode usar
@@ -175,6 +175,9 @@ public class DateUtil {
 				SimpleDateFormat sdf = (SimpleDateFormat) dateFormat;
 				msg += " [" + sdf.toPattern() + "].";
 				
+			} else if (dateFormat instanceof ImmutableDateFormat) {
+				msg += " [" + ((ImmutableDateFormat) dateFormat).toPattern() + "].";
+				
 			} else {
 				msg += " especificado.";
 			}
@@ -79,7 +79,7 @@ public final class Dates {
      * @throws IllegalStateException Caso haja alguma tentativa de utilização
      * deste construtor.
      */
-    public static final DateFormat FORMAT_YYMMDD = new SimpleDateFormat(
+    public static final DateFormat FORMAT_YYMMDD = ImmutableDateFormat.of(
             "yyMMdd");
 
     /**
@@ -87,7 +87,7 @@ public final class Dates {
      * Formatador de datas no padrão <tt>yyyyMMdd</tt>.
      * </p>
      */
-    public static final DateFormat FORMAT_YYYYMMDD = new SimpleDateFormat(
+    public static final DateFormat FORMAT_YYYYMMDD = ImmutableDateFormat.of(
             "yyyyMMdd");
 
     private Dates() {
@@ -241,6 +241,9 @@ public final class Dates {
                 SimpleDateFormat sdf = (SimpleDateFormat) dateFormat;
                 msg += " [" + sdf.toPattern() + "].";
 
+            } else if (dateFormat instanceof ImmutableDateFormat) {
+                msg += " [" + ((ImmutableDateFormat) dateFormat).toPattern() + "].";
+
             } else {
                 msg += " especificado.";
             }
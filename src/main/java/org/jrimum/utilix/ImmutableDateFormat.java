@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 21:12:08
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 21:12:08
+ *
+ */
+package org.jrimum.utilix;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * <code>DateFormat</code> imutável e thread-safe, baseado em um
+ * <code>DateTimeFormatter</code>, que pode ser compartilhado entre threads
+ * onde antes se usava uma mesma instância de <code>SimpleDateFormat</code>.
+ * </p>
+ *
+ * <p>
+ * Escreve e lê os padrões numéricos usados nos arquivos e boletos
+ * (<tt>ddMMyy</tt>, <tt>yyMMdd</tt>, <tt>ddMMyyyy</tt>, <tt>hhmmss</tt>...)
+ * com o mesmo resultado do <code>SimpleDateFormat</code> leniente: anos com
+ * dois dígitos no século que vai de 80 anos atrás a 20 anos à frente, hora
+ * <tt>hh</tt> sem marcador AM/PM lida como AM e campos fora da faixa
+ * ajustados (por exemplo <tt>000000</tt>). Sem separadores, os campos devem
+ * ter a largura exata do padrão; datas anteriores a 1582 seguem o calendário
+ * gregoriano proléptico.
+ * </p>
+ *
+ * <p>
+ * Calendário, fuso e leniência não podem ser alterados; <code>clone()</code>
+ * retorna a própria instância.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public final class ImmutableDateFormat extends DateFormat {
+
+	private static final long serialVersionUID = -3260417046285013735L;
+
+	private static final LocalDate DATA_BASE = LocalDate.of(1970, 1, 1);
+
+	private final String pattern;
+
+	private final transient DateTimeFormatter formatter;
+
+	/**
+	 * Início do século dos anos com dois dígitos, como no
+	 * <code>SimpleDateFormat</code>; <code>null</code> se o padrão não os tem.
+	 */
+	private final transient LocalDateTime inicioSeculo;
+
+	private ImmutableDateFormat(String pattern) {
+
+		Objects.checkNotNull(pattern, "INVALID NULL FORMAT!");
+
+		this.pattern = pattern;
+		this.inicioSeculo = pattern.contains("yy") && !pattern.contains("yyy")
+				? LocalDateTime.now().minusYears(80) : null;
+		this.formatter = formatter(pattern, inicioSeculo);
+	}
+
+	/**
+	 * @param pattern Padrão no formato do <code>SimpleDateFormat</code>
+	 * @return Formatador imutável do padrão
+	 */
+	public static ImmutableDateFormat of(String pattern) {
+
+		return new ImmutableDateFormat(pattern);
+	}
+
+	private static DateTimeFormatter formatter(String pattern, LocalDateTime inicioSeculo) {
+
+		DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+		for (int i = 0; i < pattern.length(); i++) {
+			if (!Character.isLetter(pattern.charAt(i))) {
+				//Com separadores, o SimpleDateFormat aceita campos sem zeros à esquerda
+				builder.parseLenient();
+				break;
+			}
+		}
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			int fim = i + 1;
+			while (fim < pattern.length() && pattern.charAt(fim) == c) {
+				fim++;
+			}
+			if (c == 'y' && fim - i == 2) {
+				builder.appendValueReduced(ChronoField.YEAR, 2, 2, inicioSeculo.getYear());
+			} else if (Character.isLetter(c)) {
+				builder.appendPattern(pattern.substring(i, fim));
+			} else {
+				builder.appendLiteral(pattern.substring(i, fim));
+			}
+			i = fim;
+		}
+		if ((pattern.indexOf('h') >= 0 || pattern.indexOf('K') >= 0) && pattern.indexOf('a') < 0) {
+			builder.parseDefaulting(ChronoField.AMPM_OF_DAY, 0);
+		}
+		return builder.toFormatter().withResolverStyle(ResolverStyle.LENIENT);
+	}
+
+	public String toPattern() {
+
+		return pattern;
+	}
+
+	@Override
+	public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+
+		LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+		formatter.formatTo(dateTime, toAppendTo);
+		return toAppendTo;
+	}
+
+	@Override
+	public Date parse(String source, ParsePosition pos) {
+
+		int inicio = pos.getIndex();
+		try {
+			TemporalAccessor parsed = formatter.parse(source, pos);
+			LocalDate data = parsed.query(TemporalQueries.localDate());
+			LocalTime hora = parsed.query(TemporalQueries.localTime());
+			LocalDateTime dateTime = LocalDateTime.of(data != null ? data : DATA_BASE,
+					hora != null ? hora : LocalTime.MIDNIGHT)
+					.plus(parsed.query(DateTimeFormatter.parsedExcessDays()));
+			if (inicioSeculo != null && dateTime.isBefore(inicioSeculo)) {
+				//Mesmo século do SimpleDateFormat: de 80 anos atrás a 20 à frente
+				dateTime = dateTime.plusYears(100);
+			}
+			return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+		} catch (DateTimeException e) {
+			pos.setIndex(inicio);
+			pos.setErrorIndex(inicio);
+			return null;
+		}
+	}
+
+	@Override
+	public boolean isLenient() {
+
+		return true;
+	}
+
+	@Override
+	public TimeZone getTimeZone() {
+
+		return TimeZone.getDefault();
+	}
+
+	@Override
+	public Calendar getCalendar() {
+
+		return Calendar.getInstance();
+	}
+
+	@Override
+	public void setLenient(boolean lenient) {
+
+		throw new UnsupportedOperationException("Formatador imutável!");
+	}
+
+	@Override
+	public void setTimeZone(TimeZone zone) {
+
+		throw new UnsupportedOperationException("Formatador imutável!");
+	}
+
+	@Override
+	public void setCalendar(Calendar newCalendar) {
+
+		throw new UnsupportedOperationException("Formatador imutável!");
+	}
+
+	@Override
+	public void setNumberFormat(NumberFormat newNumberFormat) {
+
+		throw new UnsupportedOperationException("Formatador imutável!");
+	}
+
+	@Override
+	public Object clone() {
+
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+
+		return pattern.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		return obj instanceof ImmutableDateFormat && pattern.equals(((ImmutableDateFormat) obj).pattern);
+	}
+
+	@Override
+	public String toString() {
+
+		return pattern;
+	}
+
+	private Object readResolve() {
+
+		return of(pattern);
+	}
+}
@@ -28,6 +28,8 @@
  */
 package org.jrimum.utilix;
 
+import java.util.Locale;
+
 import org.apache.commons.lang3.StringUtils;
 import static org.jrimum.utilix.Objects.isNotNull;
 
@@ -52,6 +54,46 @@ public class StringUtil {
 
     public static final String WHITE_SPACE = " ";
 
+    /**
+     * Caracteres acentuados (e cedilha) removidos por
+     * {@link #eliminateAccent(String)} e as suas letras sem acento.
+     */
+    private static final String ACENTUADOS = "\u00E7\u00C7"
+            + "\u00E0\u00E1\u00E2\u00E3\u00E4\u00E8\u00E9\u00EA\u00EB\u00EC\u00ED\u00EE\u00EF"
+            + "\u00F2\u00F3\u00F4\u00F5\u00F6\u00F9\u00FA\u00FB\u00FC"
+            + "\u00C0\u00C1\u00C2\u00C3\u00C4\u00C8\u00C9\u00CA\u00CB\u00CC\u00CD\u00CE\u00CF"
+            + "\u00D2\u00D3\u00D4\u00D5\u00D6\u00D9\u00DA\u00DB\u00DC";
+    private static final String SEM_ACENTOS = "cC"
+            + "aaaaaeeeeiiii"
+            + "ooooouuuu"
+            + "AAAAAEEEEIIII"
+            + "OOOOOUUUU";
+
+    /**
+     * Marca, em {@link #SEM_ACENTO_MAIUSCULO}, os caracteres cuja maiúscula
+     * não é um único caractere.
+     */
+    private static final char FORA_DA_TABELA = '\uFFFF';
+
+    /**
+     * Caractere sem acento de cada caractere Latin-1.
+     */
+    private static final char[] SEM_ACENTO = new char[256];
+
+    /**
+     * Caractere sem acento e em maiúscula de cada caractere Latin-1.
+     */
+    private static final char[] SEM_ACENTO_MAIUSCULO = new char[256];
+
+    static {
+        for (char c = 0; c < SEM_ACENTO.length; c++) {
+            int acentuado = ACENTUADOS.indexOf(c);
+            SEM_ACENTO[c] = acentuado < 0 ? c : SEM_ACENTOS.charAt(acentuado);
+            String maiuscula = String.valueOf(SEM_ACENTO[c]).toUpperCase(Locale.ROOT);
+            SEM_ACENTO_MAIUSCULO[c] = maiuscula.length() == 1 ? maiuscula.charAt(0) : FORA_DA_TABELA;
+        }
+    }
+
     /**
      *
      */
@@ -172,76 +214,71 @@ public class StringUtil {
      */
     public static String eliminateAccent(final String value) {
 
-        String modifiedValue = value;
-
-        //Para ç e Ç
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E7', 'c');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C7', 'C');
-
-        //Para à, á, â, ã e ä
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E0', 'a');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E1', 'a');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E2', 'a');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E3', 'a');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E4', 'a');
-
-        //Para è, é, ê e ë
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E8', 'e');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00E9', 'e');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EA', 'e');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EB', 'e');
-
-        //Para ì, í, î e ï
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EC', 'i');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00ED', 'i');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EE', 'i');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00EF', 'i');
-
-        //Para ò, ó, ô, õ e ö
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F2', 'o');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F3', 'o');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F4', 'o');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F5', 'o');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F6', 'o');
-
-        //Para ù, ú, û e ü
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00F9', 'u');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FA', 'u');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FB', 'u');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00FC', 'u');
-
-        //Para À, Á, Â, Ã e Ä
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C0', 'A');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C1', 'A');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C2', 'A');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C3', 'A');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C4', 'A');
-
-        //Para È, É, Ê e Ë
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C8', 'E');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00C9', 'E');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CA', 'E');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CB', 'E');
-
-        //Para Ì, Í, Î e Ï
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CC', 'I');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CD', 'I');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CE', 'I');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00CF', 'I');
-
-        //Para Ò, Ó, Ô, Õ e Ö
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D2', 'O');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D3', 'O');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D4', 'O');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D5', 'O');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D6', 'O');
-
-        //Para Ù, Ú, Û e Ü
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00D9', 'U');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DA', 'U');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DB', 'U');
-        modifiedValue = StringUtils.replaceChars(modifiedValue, '\u00DC', 'U');
-
-        return modifiedValue;
+        if (value == null) {
+            return null;
+        }
+
+        char[] modifiedValue = null;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < SEM_ACENTO.length && SEM_ACENTO[c] != c) {
+                if (modifiedValue == null) {
+                    modifiedValue = value.toCharArray();
+                }
+                modifiedValue[i] = SEM_ACENTO[c];
+            }
+        }
+
+        return modifiedValue == null ? value : new String(modifiedValue);
+    }
+
+    /**
+     * Remove a acentuação do texto, como em {@link #eliminateAccent(String)},
+     * e o converte para maiúsculas, como em {@link String#toUpperCase()}, em
+     * uma única passada.
+     * <br />
+     * Textos que já estão sem acentos e em maiúsculas, como os numéricos, são
+     * retornados sem cópia.
+     *
+     * @param value String não nula a ser convertida.
+     * @return String sem acentuação e em maiúsculas.
+     *
+     * @since 0.2.3
+     */
+    public static String eliminateAccentAndUpperCase(final String value) {
+
+        if (isUpperCaseComRegrasDoIdioma()) {
+            return eliminateAccent(value).toUpperCase();
+        }
+
+        char[] modifiedValue = null;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= SEM_ACENTO_MAIUSCULO.length || SEM_ACENTO_MAIUSCULO[c] == FORA_DA_TABELA) {
+                //Fora do Latin-1 ou maiúscula com mais de um caractere (ß)
+                return eliminateAccent(value).toUpperCase();
+            }
+            if (SEM_ACENTO_MAIUSCULO[c] != c) {
+                if (modifiedValue == null) {
+                    modifiedValue = value.toCharArray();
+                }
+                modifiedValue[i] = SEM_ACENTO_MAIUSCULO[c];
+            }
+        }
+
+        return modifiedValue == null ? value : new String(modifiedValue);
+    }
+
+    /**
+     * Os idiomas com regras próprias no {@link String#toUpperCase()}, como o
+     * i com ponto do turco, não usam a tabela.
+     */
+    private static boolean isUpperCaseComRegrasDoIdioma() {
+
+        String idioma = Locale.getDefault().getLanguage();
+
+        return "tr".equals(idioma) || "az".equals(idioma) || "lt".equals(idioma);
     }
 }
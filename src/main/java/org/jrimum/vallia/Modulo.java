@@ -32,8 +32,6 @@ package org.jrimum.vallia;
 import static org.jrimum.vallia.TipoDeModulo.MODULO10;
 import static org.jrimum.vallia.TipoDeModulo.MODULO11;
 
-import org.apache.commons.lang3.StringUtils;
-
 import org.jrimum.utilix.ObjectUtil;
 import static org.jrimum.utilix.ObjectUtil.isNotNull;
 
@@ -171,21 +169,22 @@ public class Modulo {
      * </p>
      *
      * <p>
-     * Transforma o <code>numero</code> em string e executa o método
-     * calculeMod11
+     * Percorre os dígitos do <code>numero</code> diretamente, sem
+     * transformá-lo em string.
      * </p>
      *
      * @param numero
      * @param limiteMin
      * @param limiteMax
      * @return resultado do cálculo
+     * @throws IllegalArgumentException se o número for negativo
      *
      * @since 0.2
      * @see #calculeMod11(String, int, int)
      */
     public static int calculeMod11(long numero, int limiteMin, int limiteMax) {
 
-        return calculeMod11(String.valueOf(numero), limiteMin, limiteMax);
+        return (calculeSomaSequencialMod11(numero, limiteMin, limiteMax) % 11);
     }
 
     /**
@@ -232,57 +231,111 @@ public class Modulo {
         return (calculeSomaSequencialMod11(numero, limiteMin, limiteMax) % 11);
     }
 
+    /**
+     * @see #calculeMod11(String, int, int)
+     * @since 0.2.3
+     */
+    public static int calculeMod11(CharSequence numero, int limiteMin, int limiteMax)
+            throws IllegalArgumentException {
+
+        return (calculeSomaSequencialMod11(numero, limiteMin, limiteMax) % 11);
+    }
+
     public static int calculeSomaSequencialMod11(String numero, int limiteMin,
             int limiteMax) throws IllegalArgumentException {
 
-        int peso = 0;
-        int soma = 0;
+        return calculeSomaSequencialMod11((CharSequence) numero, limiteMin, limiteMax);
+    }
 
-        if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)) {
+    /**
+     * <p>
+     * Soma do módulo 11 percorrendo os dígitos da direita para a esquerda na
+     * própria sequência, sem cópias nem objetos intermediários.
+     * </p>
+     *
+     * @param numero
+     * @param limiteMin
+     * @param limiteMax
+     * @return soma sequencial usada no cálculo do módulo
+     * @throws IllegalArgumentException se <code>numero</code> for vazio ou
+     * tiver algo além de dígitos
+     *
+     * @since 0.2.3
+     */
+    public static int calculeSomaSequencialMod11(CharSequence numero, int limiteMin,
+            int limiteMax) throws IllegalArgumentException {
 
-            StringBuilder sb = new StringBuilder(numero);
-            sb.reverse();
+        int peso = limiteMin;
+        int soma = 0;
 
-            peso = limiteMin;
+        for (int i = ultimoIndice(numero); i >= 0; i--) {
 
-            for (char c : sb.toString().toCharArray()) {
-                soma += peso * Character.getNumericValue(c);
-                peso++;
+            soma += peso * digito(numero.charAt(i));
 
-                if (peso > limiteMax) {
-                    peso = limiteMin;
-                }
+            if (++peso > limiteMax) {
+                peso = limiteMin;
             }
-
-        } else {
-            throw new IllegalArgumentException(
-                    O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
         }
 
         return soma;
     }
 
+    /**
+     * <p>
+     * Soma do módulo 11 extraindo os dígitos do próprio <code>numero</code>.
+     * </p>
+     *
+     * @param numero
+     * @param limiteMin
+     * @param limiteMax
+     * @return soma sequencial usada no cálculo do módulo
+     * @throws IllegalArgumentException se o número for negativo
+     *
+     * @since 0.2.3
+     */
+    public static int calculeSomaSequencialMod11(long numero, int limiteMin,
+            int limiteMax) throws IllegalArgumentException {
+
+        checkNaoNegativo(numero);
+
+        int peso = limiteMin;
+        int soma = 0;
+
+        do {
+
+            soma += peso * (int) (numero % 10);
+            numero /= 10;
+
+            if (++peso > limiteMax) {
+                peso = limiteMin;
+            }
+        } while (numero > 0);
+
+        return soma;
+    }
+
     /**
      * <p>
      * Executa o cáculo do módulo 10 com os limites definidos.
      * </p>
      *
      * <p>
-     * Transforma o <code>numero</code> em string e executa o método
-     * calculeMod10
+     * Percorre os dígitos do <code>numero</code> diretamente, sem
+     * transformá-lo em string.
      * </p>
      *
      * @param numero
      * @param limiteMin
      * @param limiteMax
      * @return resultado do cálculo
+     * @throws IllegalArgumentException se o número for negativo
      *
      * @since 0.2
      * @see #calculeMod10(String, int, int)
      */
     public static int calculeMod10(long numero, int limiteMin, int limiteMax) {
 
-        return calculeMod10(String.valueOf(numero), limiteMin, limiteMax);
+        return (calculeSomaSequencialMod10(numero, limiteMin, limiteMax) % 10);
     }
 
     /**
@@ -309,6 +362,16 @@ public class Modulo {
         return (calculeSomaSequencialMod10(numero, limiteMin, limiteMax) % 10);
     }
 
+    /**
+     * @see #calculeMod10(String, int, int)
+     * @since 0.2.3
+     */
+    public static int calculeMod10(CharSequence numero, int limiteMin, int limiteMax)
+            throws IllegalArgumentException {
+
+        return (calculeSomaSequencialMod10(numero, limiteMin, limiteMax) % 10);
+    }
+
     /**
      * <p>
      * Realiza o cálculo da soma na forma do módulo 10.
@@ -354,40 +417,113 @@ public class Modulo {
     public static int calculeSomaSequencialMod10(String numero, int limiteMin,
             int limiteMax) throws IllegalArgumentException {
 
-        int produto = 0;
-        int peso = 0;
+        return calculeSomaSequencialMod10((CharSequence) numero, limiteMin, limiteMax);
+    }
+
+    /**
+     * <p>
+     * Soma do módulo 10 percorrendo os dígitos da direita para a esquerda na
+     * própria sequência, sem cópias nem objetos intermediários.
+     * </p>
+     *
+     * @param numero
+     * @param limiteMin
+     * @param limiteMax
+     * @return soma sequencial usada no cálculo do módulo
+     * @throws IllegalArgumentException se <code>numero</code> for vazio ou
+     * tiver algo além de dígitos
+     *
+     * @since 0.2.3
+     */
+    public static int calculeSomaSequencialMod10(CharSequence numero, int limiteMin,
+            int limiteMax) throws IllegalArgumentException {
+
+        int peso = limiteMax;
         int soma = 0;
 
-        if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)) {
+        for (int i = ultimoIndice(numero); i >= 0; i--) {
 
-            StringBuilder sb = new StringBuilder(numero);
-            sb.reverse();
+            soma += somaDoProduto(peso * digito(numero.charAt(i)));
 
-            peso = limiteMax;
+            peso = (peso == limiteMax) ? limiteMin : limiteMax;
+        }
 
-            for (char c : sb.toString().toCharArray()) {
+        return soma;
+    }
+
+    /**
+     * <p>
+     * Soma do módulo 10 extraindo os dígitos do próprio <code>numero</code>.
+     * </p>
+     *
+     * @param numero
+     * @param limiteMin
+     * @param limiteMax
+     * @return soma sequencial usada no cálculo do módulo
+     * @throws IllegalArgumentException se o número for negativo
+     *
+     * @since 0.2.3
+     */
+    public static int calculeSomaSequencialMod10(long numero, int limiteMin,
+            int limiteMax) throws IllegalArgumentException {
 
-                produto = peso * Character.getNumericValue(c);
+        checkNaoNegativo(numero);
 
-                if (produto > 9) {
+        int peso = limiteMax;
+        int soma = 0;
 
-                    soma += produto / 10;
-                    soma += produto % 10;
-                } else {
-                    soma += produto;
-                }
+        do {
 
-                peso = (peso == limiteMax) ? limiteMin : limiteMax;
-            }
+            soma += somaDoProduto(peso * (int) (numero % 10));
+            numero /= 10;
 
-        } else {
-            throw new IllegalArgumentException(
-                    O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
-        }
+            peso = (peso == limiteMax) ? limiteMin : limiteMax;
+        } while (numero > 0);
 
         return soma;
     }
 
+    /**
+     * Produtos maiores que 9 contribuem com a soma das dezenas e das unidades.
+     */
+    private static int somaDoProduto(int produto) {
+
+        return (produto > 9) ? (produto / 10) + (produto % 10) : produto;
+    }
+
+    /**
+     * Valor do dígito; fora da faixa ASCII aceita os mesmos dígitos Unicode de
+     * <code>StringUtils.isNumeric</code>.
+     */
+    private static int digito(char c) {
+
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+
+        if (Character.isDigit(c)) {
+            return Character.getNumericValue(c);
+        }
+
+        throw new IllegalArgumentException(O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
+    }
+
+    private static int ultimoIndice(CharSequence numero) {
+
+        if (numero == null || numero.length() == 0) {
+            throw new IllegalArgumentException(O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
+        }
+
+        return numero.length() - 1;
+    }
+
+    private static void checkNaoNegativo(long numero) {
+
+        if (numero < 0) {
+            throw new IllegalArgumentException(O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
+        }
+    }
+
     /**
      * <p>
      * Executa o cáculo do módulo da instância.
@@ -401,6 +537,22 @@ public class Modulo {
      */
     public int calcule(String numero) throws IllegalArgumentException {
 
+        return calcule((CharSequence) numero);
+    }
+
+    /**
+     * <p>
+     * Executa o cáculo do módulo da instância sobre a própria sequência.
+     * </p>
+     *
+     * @param numero
+     * @return
+     * @throws IllegalArgumentException
+     *
+     * @since 0.2.3
+     */
+    public int calcule(CharSequence numero) throws IllegalArgumentException {
+
         int modulo = 0;
 
         switch (mod) {
@@ -433,7 +585,24 @@ public class Modulo {
      */
     public int calcule(long numero) {
 
-        return calcule(String.valueOf(numero));
+        int modulo = 0;
+
+        switch (mod) {
+
+            case MODULO10:
+
+                modulo = calculeMod10(numero, getLimiteMinimo(), getLimiteMaximo());
+
+                break;
+
+            case MODULO11:
+
+                modulo = calculeMod11(numero, getLimiteMinimo(), getLimiteMaximo());
+
+                break;
+        }
+
+        return modulo;
     }
 
     /**
@@ -30,4 +30,63 @@ public class TestLayoutsSuportados {
         TagLayout layout = LayoutsSuportados.getLayoutArquivoBancario("001");
         Assert.assertNotNull("Banco do brasil", layout);
     }
+
+    @Test
+    public void testIndiceDeLayoutsEquivaleABuscaSequencial() {
+        String[] bancos = {null, "000", "001", "033", "104", "237", "341", "748"};
+        CNAB[] cnabs = {null, CNAB.CNAB_240, CNAB.CNAB_400};
+        CNABServico[] servicos = {null, CNABServico.COBRANCA_REMESSA, CNABServico.COBRANCA_RETORNO};
+        String[] opcionais = {null, "1", "00"};
+        for (String banco : bancos) {
+            for (CNAB cnab : cnabs) {
+                for (CNABServico servico : servicos) {
+                    for (String convenio : opcionais) {
+                        for (String carteira : opcionais) {
+                            Assert.assertSame(banco + " " + cnab + " " + servico + " " + convenio + " " + carteira,
+                                    buscaSequencial(servico, cnab, banco, convenio, carteira),
+                                    LayoutsSuportados.getLayoutArquivoBancario(servico, cnab, banco,
+                                            convenio, null, null, carteira, null));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFilhosDoLayoutSomenteLeituraPeloNome() {
+        TagLayout layout = LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA;
+        Assert.assertSame(layout.filhos.get(1), layout.get("cabecalho"));
+        Assert.assertSame(layout.get("cabecalho"), layout.get("CABECALHO"));
+        Assert.assertNull(layout.get("inexistente"));
+    }
+
+    @Test
+    public void testCloneDoLayoutIndependenteDoOriginal() {
+        TagLayout clone = LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA.clone();
+        clone.get("cabecalho").get("bancoCodigo").value("999");
+
+        Assert.assertEquals("999", clone.get("cabecalho").get("bancoCodigo").getAtr("value"));
+        Assert.assertNotEquals("999", LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA
+                .get("cabecalho").get("bancoCodigo").getAtr("value"));
+    }
+
+    /**
+     * Busca sequencial original, referência para o índice.
+     */
+    private static TagLayout buscaSequencial(CNABServico servico, CNAB cnab, String codBanco,
+            String convenio, String carteira) {
+        for (TagLayout layout : LayoutsSuportados.layoutsSuportados) {
+            TagLayout descritor = layout.get("layout");
+            if (descritor != null
+                    && LayoutsSuportados.eq(descritor.getValue("banco"), codBanco)
+                    && LayoutsSuportados.eq(descritor.getValue("cnab"), cnab)
+                    && (servico == null || LayoutsSuportados.eq(descritor.getValue("servico"), servico))
+                    && (convenio == null || LayoutsSuportados.eq(descritor.getValue("convenio"), convenio))
+                    && (carteira == null || LayoutsSuportados.eq(descritor.getValue("carteira"), carteira))) {
+                return layout;
+            }
+        }
+        return null;
+    }
 }
@@ -16,6 +16,13 @@
 package com.github.braully.boleto;
 
 import static com.github.braully.boleto.TagLayout.TagCreator.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Date;
 import org.jrimum.bopepo.BancosSuportados;
 import org.junit.Ignore;
@@ -265,6 +272,116 @@ public class TestRemessaFacade {
 //        assertEquals(remessaStr, "");
     }
 
+    @Test
+    public void testEscritaIncrementalDaRemessa() throws IOException {
+        Date data = new Date();
+
+        RemessaFacade remessa = new RemessaFacade(LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA);
+        cabecalhoBB(remessa.addNovoCabecalho(), data);
+        cabecalhoLoteBB(remessa.addNovoCabecalhoLote());
+        for (int i = 1; i <= 2; i++) {
+            segmentoP(remessa.addNovoDetalheSegmentoP(), i, data).sequencialRegistro(2 * i - 1);
+            remessa.addNovoDetalheSegmentoQ().sacado("Fulano de Tal", "0")
+                    .banco("0", "Banco").carteira("00").sequencialRegistro(2 * i);
+        }
+        remessa.addNovoRodapeLote().quantidadeRegistros(6).valorTotalRegistros(3)
+                .banco("0", "Banco").carteira("00");
+        remessa.addNovoRodape().quantidadeRegistros(8)
+                .banco("0", "Banco").carteira("00");
+
+        StringWriter texto = new StringWriter();
+        try (EscritorRemessa escritor = remessa.escritor(texto)) {
+            cabecalhoBB(escritor.addNovoCabecalho(), data);
+            cabecalhoLoteBB(escritor.addNovoCabecalhoLote());
+            for (int i = 1; i <= 2; i++) {
+                segmentoP(escritor.addNovoDetalheSegmentoP(), i, data);
+                escritor.addNovoDetalheSegmentoQ().sacado("Fulano de Tal", "0")
+                        .banco("0", "Banco").carteira("00");
+            }
+            escritor.addNovoRodapeLote().banco("0", "Banco").carteira("00");
+            escritor.addNovoRodape().banco("0", "Banco").carteira("00");
+        }
+
+        assertEquals(remessa.render(), texto.toString());
+    }
+
+    @Test
+    public void testEscritorFechaLoteEArquivo() throws IOException {
+        RemessaFacade remessa = new RemessaFacade(LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA);
+        StringWriter texto = new StringWriter();
+        EscritorRemessa escritor = remessa.escritor(texto);
+        cabecalhoBB(escritor.addNovoCabecalho(), new Date());
+        cabecalhoLoteBB(escritor.addNovoCabecalhoLote());
+        segmentoP(escritor.addNovoDetalheSegmentoP(), 1, new Date());
+
+        escritor.close();
+
+        String[] linhas = texto.toString().split("\r\n");
+        assertEquals(5, linhas.length);
+        assertEquals(5, escritor.getQuantidadeRegistros());
+        assertEquals('5', linhas[3].charAt(7));
+        assertEquals('9', linhas[4].charAt(7));
+        assertEquals("000003", linhas[3].substring(17, 23));
+        assertEquals("000005", linhas[4].substring(23, 29));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEscritorNaoAceitaRegistrosAposORodape() {
+        RemessaFacade remessa = new RemessaFacade(LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA);
+        EscritorRemessa escritor = remessa.escritor(new StringWriter());
+        escritor.addNovoCabecalho();
+        escritor.addNovoRodape();
+        escritor.addNovoDetalheSegmentoP();
+    }
+
+    @Test
+    public void testRegistrosDoPrototipoEquivalemAosDoLayoutMutavel() {
+        Date data = new Date();
+        RemessaFacade remessa = new RemessaFacade(LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA);
+        RemessaFacade mutavel = new RemessaFacade(LayoutsSuportados.LAYOUT_BB_CNAB240_COBRANCA_REMESSA.clone());
+
+        TituloArquivo primeiro = segmentoP(remessa.addNovoDetalheSegmentoP(), 1, data);
+        TituloArquivo segundo = segmentoP(remessa.addNovoDetalheSegmentoP(), 2, data);
+
+        assertEquals(segmentoP(mutavel.addNovoDetalheSegmentoP(), 1, data).render(), primeiro.render());
+        assertEquals(segmentoP(mutavel.addNovoDetalheSegmentoP(), 2, data).render(), segundo.render());
+        assertNotSame(primeiro.getFields().get(0), segundo.getFields().get(0));
+        assertSame(primeiro.getIdType(), primeiro.getFields().get(primeiro.getFields().indexOf(primeiro.getIdType())));
+        String linha = primeiro.render();
+        assertTrue(primeiro.checkIds(linha));
+        assertFalse(primeiro.checkIds(linha.substring(0, 13) + "Q" + linha.substring(14)));
+    }
+
+    private static void cabecalhoBB(CabecalhoArquivo cabecalho, Date data) {
+        cabecalho.sequencialArquivo(1)
+                .dataGeracao(data).setVal("horaGeracao", data)
+                .banco("0", "Banco").cedente("ACME S.A LTDA.", "1")
+                .convenio("1", "1", "1", "1")
+                .carteira("00");
+    }
+
+    private static void cabecalhoLoteBB(CabecalhoArquivo cabecalhoLote) {
+        cabecalhoLote.operacao("R").servico(1).forma(1)
+                .banco("0", "Banco")
+                .cedente("ACME S.A LTDA.", "1")
+                .convenio("1", "1", "1", "1")
+                .carteira("00");
+    }
+
+    private static TituloArquivo segmentoP(TituloArquivo titulo, int numero, Date data) {
+        titulo.valor(numero)
+                .valorDesconto(0).valorAcrescimo(0)
+                .dataGeracao(data)
+                .dataVencimento(data)
+                .numeroDocumento(numero)
+                .nossoNumero(numero)
+                .banco("0", "Banco")
+                .cedente("ACME S.A LTDA.", "1")
+                .convenio("1", "1", "1", "1")
+                .carteira("00");
+        return titulo;
+    }
+
     public TagLayout layoutGenericoTest() {
         TagLayout flatfileLayout = flatfile(
                 /*
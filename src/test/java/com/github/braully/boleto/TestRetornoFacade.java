@@ -15,8 +15,27 @@
  */
 package com.github.braully.boleto;
 
+import static com.github.braully.boleto.TagLayout.TagCreator.cabecalho;
+import static com.github.braully.boleto.TagLayout.TagCreator.detalhe;
+import static com.github.braully.boleto.TagLayout.TagCreator.fbranco;
+import static com.github.braully.boleto.TagLayout.TagCreator.fcodigoRegistro;
+import static com.github.braully.boleto.TagLayout.TagCreator.field;
+import static com.github.braully.boleto.TagLayout.TagCreator.flatfile;
+import static com.github.braully.boleto.TagLayout.TagCreator.rodape;
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.jrimum.utilix.ImmutableDateFormat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -50,4 +69,190 @@ public class TestRetornoFacade {
         //System.err.println(remessaStr);
 //        assertEquals(remessaStr, "");
     }
+
+    @Test
+    public void testParseCobrancaBradescoCnab400() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        List<String> linhas = new ArrayList<>();
+        linhas.add(linha400('0'));
+        linhas.add(linha400('1'));
+        linhas.add(linha400('1') + "\r\n");
+        linhas.add(linha400('9'));
+
+        retorno.parse(linhas);
+
+        assertNotNull(retorno.cabecalho());
+        assertEquals(2, retorno.detalhes().size());
+        assertNotNull(retorno.rodape());
+        assertSame(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO.get("rodape"),
+                retorno.rodape().layoutRegistro);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testParseLinhaNaoReconhecida() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        retorno.parse(Arrays.asList(linha400('7')));
+    }
+
+    @Test
+    public void testIndiceReconheceOMesmoRegistroQueCheckIds() {
+        TagLayout template = LayoutsSuportados.LAYOUT_FEBRABAN_CNAB240_COBRANCA_RETORNO;
+        IndiceRegistros indice = IndiceRegistros.de(template);
+        assertSame(indice, IndiceRegistros.de(template));
+        for (char codigo : "013579".toCharArray()) {
+            for (char segmento : " JTUPQR".toCharArray()) {
+                for (String opcional : Arrays.asList("  ", "52")) {
+                    char[] linha = new char[240];
+                    Arrays.fill(linha, ' ');
+                    linha[7] = codigo;
+                    linha[13] = segmento;
+                    linha[17] = opcional.charAt(0);
+                    linha[18] = opcional.charAt(1);
+                    String str = new String(linha);
+                    assertSame(str, ultimoRegistroPorCheckIds(template, str), indice.classificar(str));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLeituraSobDemandaDoRetorno() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        String arquivo = linha400('0') + "\r\n" + linha400('1') + "\r\n" + linha400('7') + "\r\n";
+
+        Iterator<RegistroArquivo> registros = retorno.iterator(new StringReader(arquivo));
+
+        assertSame(retorno.template.get("cabecalho"), registros.next().layoutRegistro);
+        assertTrue(registros.next().getName().startsWith("detalhe"));
+        try {
+            registros.next();
+            fail("Linha não reconhecida deveria ser rejeitada ao ser consumida");
+        } catch (IllegalStateException e) {
+            assertTrue(retorno.registros.isEmpty());
+        }
+    }
+
+    @Test
+    public void testAcessoAosCamposDoTituloPeloIndiceDoLayout() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        char[] detalhe = linha400('1').toCharArray();
+        "00000004321".getChars(0, 11, detalhe, 70);
+        "0000000012345".getChars(0, 13, detalhe, 152);
+        retorno.parse(Arrays.asList(linha400('0'), new String(detalhe), linha400('9')));
+
+        TituloArquivo titulo = retorno.detalhesAsTitulos().get(0);
+
+        assertEquals("00000004321", titulo.nossoNumero());
+        assertSame(titulo.getFieldIndex(), new RegistroArquivo(titulo.layoutRegistro).getFieldIndex());
+        assertSame(titulo.getField("nossoNumero"), titulo.getFields().stream()
+                .filter(f -> "nossoNumero".equals(f.getName())).findFirst().get());
+        assertEquals(1, titulo.nossoNumero("00000001234").getFields().stream()
+                .filter(f -> "00000001234".equals(f.getValue())).count());
+    }
+
+    @Test
+    public void testLeituraParalelaEquivaleALeituraSequencial() {
+        List<String> linhas = new ArrayList<>();
+        linhas.add(linha400('0'));
+        for (int i = 0; i < 3 * RetornoFacade.LINHAS_POR_BLOCO + 7; i++) {
+            char[] detalhe = linha400('1').toCharArray();
+            String.format("%011d", i).getChars(0, 11, detalhe, 70);
+            linhas.add(new String(detalhe));
+        }
+        linhas.add(linha400('9'));
+        RetornoFacade sequencial = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        RetornoFacade paralelo = new RetornoFacade(LayoutsSuportados.LAYOUT_BRADESCO_CNAB400_COBRANCA_RETORNO);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            sequencial.parse(linhas);
+            paralelo.parseParalelo(linhas, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(sequencial.registros.size(), paralelo.registros.size());
+        for (int i = 0; i < sequencial.registros.size(); i++) {
+            assertSame(sequencial.registros.get(i).layoutRegistro, paralelo.registros.get(i).layoutRegistro);
+            assertEquals(sequencial.registros.get(i).render(), paralelo.registros.get(i).render());
+        }
+        assertEquals(String.format("%011d", 42), paralelo.detalhesAsTitulos().get(42).nossoNumero());
+    }
+
+    @Test
+    public void testLeituraParalelaValidaOsLotes() {
+        RetornoFacade retorno = new RetornoFacade(LayoutsSuportados.LAYOUT_FEBRABAN_CNAB240_COBRANCA_RETORNO);
+        retorno.parseParalelo(Arrays.asList(linha240('0', ' '), linha240('1', ' '),
+                linha240('3', 'T'), linha240('3', 'U'), linha240('5', ' '), linha240('9', ' ')));
+        assertEquals(6, retorno.registros.size());
+        assertNotNull(retorno.rodapeLote());
+
+        try {
+            retorno.parseParalelo(Arrays.asList(linha240('0', ' '), linha240('1', ' '),
+                    linha240('3', 'T'), linha240('9', ' ')));
+            fail("Lote sem rodapé deveria ser rejeitado");
+        } catch (IllegalStateException e) {
+            assertEquals(6, retorno.registros.size());
+        }
+    }
+
+    @Test
+    public void testLeituraParalelaNaoCompartilhaFormatadoresMutaveis() {
+        SimpleDateFormat dataOcorrencia = new SimpleDateFormat("ddMMyyyy");
+        ImmutableDateFormat dataCredito = ImmutableDateFormat.of("ddMMyyyy");
+        TagLayout template = flatfile(
+                cabecalho(fcodigoRegistro().value("0"), fbranco().length(16)),
+                detalhe(fcodigoRegistro().value("1"),
+                        field("dataOcorrencia").length(8).format(dataOcorrencia),
+                        field("dataCredito").length(8).format(dataCredito)),
+                rodape(fcodigoRegistro().value("9"), fbranco().length(16)));
+        List<String> linhas = new ArrayList<>();
+        linhas.add("0" + String.format("%16s", ""));
+        for (int i = 0; i < 2 * RetornoFacade.LINHAS_POR_BLOCO + 7; i++) {
+            String data = String.format("%02d%02d20%02d", i % 28 + 1, i % 12 + 1, i % 100);
+            linhas.add("1" + data + data);
+        }
+        linhas.add("9" + String.format("%16s", ""));
+        RetornoFacade sequencial = new RetornoFacade(template);
+        RetornoFacade paralelo = new RetornoFacade(template);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            sequencial.parse(linhas);
+            paralelo.parseParalelo(linhas, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < sequencial.registros.size(); i++) {
+            assertEquals(sequencial.registros.get(i).render(), paralelo.registros.get(i).render());
+        }
+        RegistroArquivo detalhe = paralelo.detalhes().get(0);
+        assertEquals(linhas.get(1), detalhe.render());
+        assertNotSame(dataOcorrencia, detalhe.getField("dataOcorrencia").getFormatter());
+        assertSame(dataCredito, detalhe.getField("dataCredito").getFormatter());
+    }
+
+    private static TagLayout ultimoRegistroPorCheckIds(TagLayout template, String linha) {
+        TagLayout ultimo = null;
+        for (TagLayout tag : template.filhos) {
+            if (new RegistroArquivo(tag).checkIds(linha)) {
+                ultimo = tag;
+            }
+        }
+        return ultimo;
+    }
+
+    private static String linha400(char codigoRegistro) {
+        char[] linha = new char[400];
+        Arrays.fill(linha, '0');
+        linha[0] = codigoRegistro;
+        return new String(linha);
+    }
+
+    private static String linha240(char codigoRegistro, char segmento) {
+        char[] linha = new char[240];
+        Arrays.fill(linha, ' ');
+        linha[7] = codigoRegistro;
+        linha[13] = segmento;
+        return new String(linha);
+    }
 }
@@ -1,10 +1,13 @@
 package org.jrimum.bopepo;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -401,4 +404,70 @@ public class TestBoletoUtil {
 		assertEquals(LINHA_DIGITAVEL_FORMATADA_EXPECTED,BoletoUtil.linhaDigitavelNumericaEmFormatada(" "+LINHA_DIGITAVEL_NUMERICA_EXPECTED+" "));
 		assertTrue(!LINHA_DIGITAVEL_FORMATADA_EXPECTED.equals(BoletoUtil.linhaDigitavelNumericaEmFormatada(LINHA_DIGITAVEL_NUMERICA_EXPECTED.replace("8", "3"))));
 	}
+
+	@Test
+	public void testDecodifiqueEmLote() {
+
+		CodigosDecodificados lote = BoletoUtil.decodifiqueEmLote(
+				CODIGO_DE_BARRAS_EXPECTED,
+				" " + LINHA_DIGITAVEL_NUMERICA_EXPECTED + " ",
+				new StringBuilder(LINHA_DIGITAVEL_FORMATADA_EXPECTED));
+
+		assertEquals(3, lote.getQuantidade());
+		assertEquals(3, lote.getQuantidadeDeValidos());
+		for (int i = 0; i < lote.getQuantidade(); i++) {
+			assertEquals(CodigosDecodificados.Situacao.VALIDO, lote.getSituacao(i));
+			assertEquals(Integer.parseInt(CODIGO_DO_BANCO_EXPECTED), lote.getCodigoDoBanco(i));
+			assertEquals(Integer.parseInt(CODIGO_DA_MOEDA_EXPECTED), lote.getCodigoDaMoeda(i));
+			assertEquals(Integer.parseInt(CODIGO_DV_GERAL_EXPECTED), lote.getDigitoVerificadorGeral(i));
+			assertEquals(Integer.parseInt(FATOR_DE_VENCIMENTO_EXPECTED), lote.getFatorDeVencimento(i));
+			assertEquals(Long.parseLong(VALOR_NOMINAL_EXPECTED), lote.getValorEmCentavos(i));
+			assertEquals(CAMPO_LIVRE_EXPECTED, lote.getCampoLivre(i));
+			assertEquals(CODIGO_DE_BARRAS_EXPECTED, lote.getCodigoDeBarras(i));
+			assertEquals(LINHA_DIGITAVEL_NUMERICA_EXPECTED, lote.getLinhaDigitavel(i));
+		}
+		
+		char[] campoLivre = new char[27];
+		lote.copieCampoLivre(2, campoLivre, 1);
+		assertEquals(CAMPO_LIVRE_EXPECTED, new String(campoLivre, 1, 25));
+	}
+
+	@Test
+	public void testDecodifiqueEmLoteComEntradasInvalidas() {
+
+		ArrayList<String> entradas = new ArrayList<String>();
+		entradas.addAll(INPUTS_CODIGO_DE_BARRAS);
+		entradas.addAll(INPUTS_LINHAS_DIGITAVEIS_NUMERICAS);
+		entradas.addAll(INPUTS_LINHAS_DIGITAVEIS_FORMATADAS);
+		entradas.add(null);
+
+		CodigosDecodificados lote = BoletoUtil.decodifiqueEmLote(entradas);
+
+		assertEquals(entradas.size(), lote.getQuantidade());
+		for (int i = 0; i < lote.getQuantidade(); i++) {
+			String entrada = entradas.get(i);
+			boolean formatoValido = entrada != null && (BoletoUtil.isCodigoDeBarrasValido(entrada)
+					|| BoletoUtil.isLinhaDigitavelNumericaValida(entrada)
+					|| BoletoUtil.isLinhaDigitavelFormatadaValida(entrada));
+			assertEquals(entrada, formatoValido, lote.getSituacao(i) != CodigosDecodificados.Situacao.FORMATO_INVALIDO);
+			if (!formatoValido) {
+				assertNull(lote.getCodigoDeBarras(i));
+				assertNull(lote.getCampoLivre(i));
+			}
+		}
+
+		//Dígitos verificadores: geral, de um campo e geral da linha digitável
+		lote = BoletoUtil.decodifiqueEmLote(Arrays.asList(
+				CODIGO_DE_BARRAS_EXPECTED.substring(0, 4) + "7" + CODIGO_DE_BARRAS_EXPECTED.substring(5),
+				LINHA_DIGITAVEL_FORMATADA_EXPECTED.replace("23452", "23453"),
+				LINHA_DIGITAVEL_NUMERICA_EXPECTED.substring(0, 32) + "5" + LINHA_DIGITAVEL_NUMERICA_EXPECTED.substring(33)));
+
+		assertEquals(0, lote.getQuantidadeDeValidos());
+		for (int i = 0; i < lote.getQuantidade(); i++) {
+			assertEquals(CodigosDecodificados.Situacao.DIGITO_VERIFICADOR_INVALIDO, lote.getSituacao(i));
+			assertFalse(lote.isValido(i));
+			assertNull(lote.getLinhaDigitavel(i));
+			assertEquals(Long.parseLong(VALOR_NOMINAL_EXPECTED), lote.getValorEmCentavos(i));
+		}
+	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 23:59:30
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 23:59:30
+ *
+ */
+package org.jrimum.bopepo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário do código de barras decodificado.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestCodigoDecodificado {
+
+	private static final String CODIGO_DE_BARRAS = "39993437100000009651234567000000000022226892";
+
+	private static final String LINHA_DIGITAVEL = "39991.23452 67000.000009 00222.268922 3 43710000000965";
+
+	@Test
+	public void leOsCamposDoCodigoDeBarras() {
+
+		CodigoDecodificado codigo = CodigoDecodificado.valueOf(CODIGO_DE_BARRAS);
+
+		assertEquals(399, codigo.getCodigoDoBanco());
+		assertEquals(9, codigo.getCodigoDaMoeda());
+		assertEquals(3, codigo.getDigitoVerificadorGeral());
+		assertEquals(4371, codigo.getFatorDeVencimento());
+		assertEquals(965L, codigo.getValorEmCentavos());
+		assertEquals(new BigDecimal("9.65"), codigo.getValor());
+		assertEquals("1234567000000000022226892", codigo.getCampoLivre());
+		assertTrue(codigo.isCampoLivre("1234567000000000022226892"));
+		assertFalse(codigo.isCampoLivre("1234567000000000022226893"));
+		assertEquals(CODIGO_DE_BARRAS, codigo.getCodigoDeBarras());
+		assertEquals(CODIGO_DE_BARRAS, codigo.toString());
+	}
+
+	@Test
+	public void codigoELinhaDigitavelSaoAMesmaChave() throws Exception {
+
+		CodigoDecodificado codigo = CodigoDecodificado.valueOf(CODIGO_DE_BARRAS);
+		CodigoDecodificado linha = CodigoDecodificado.valueOf(LINHA_DIGITAVEL);
+		CodigoDecodificado outro = CodigoDecodificado.valueOf(BoletoUtil
+				.linhaDigitavelNumericaEmCodigoDeBarras("00190500954014481606906809350314337370000000100"));
+
+		assertEquals(codigo, linha);
+		assertEquals(codigo.hashCode(), linha.hashCode());
+		assertNotEquals(codigo, outro);
+
+		Set<CodigoDecodificado> pagos = new HashSet<CodigoDecodificado>();
+		assertTrue(pagos.add(codigo));
+		assertFalse(pagos.add(linha));
+		assertTrue(pagos.add(outro));
+		assertEquals(2, pagos.size());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(codigo);
+		out.close();
+		assertEquals(codigo, new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject());
+	}
+
+	@Test
+	public void loteRetornaOsCodigosValidos() {
+
+		CodigosDecodificados lote = BoletoUtil.decodifiqueEmLote(CODIGO_DE_BARRAS, "123", LINHA_DIGITAVEL);
+
+		assertEquals(CodigoDecodificado.valueOf(CODIGO_DE_BARRAS), lote.get(0));
+		assertNull(lote.get(1));
+		assertEquals(lote.get(0), lote.get(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void naoAceitaDigitoVerificadorInvalido() {
+
+		CodigoDecodificado.valueOf(CODIGO_DE_BARRAS.substring(0, 4) + "7" + CODIGO_DE_BARRAS.substring(5));
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Created at: 18/10/2026 - 10:12:31
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões
+ * e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 10:12:31
+ *
+ */
+package org.jrimum.bopepo.functional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.bopepo.pdf.PDFs;
+import org.jrimum.bopepo.view.BoletoViewer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.ImageRenderInfo;
+import com.itextpdf.text.pdf.parser.PdfReaderContentParser;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.itextpdf.text.pdf.parser.RenderListener;
+import com.itextpdf.text.pdf.parser.TextRenderInfo;
+import com.itextpdf.text.pdf.parser.Vector;
+
+public class TestBoletoPdfEmLote {
+
+    private static final int QUANTIDADE = 7;
+
+    private ExecutorService executor;
+
+    private List<Boleto> boletos;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        boletos = new ArrayList<Boleto>(QUANTIDADE);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            Boleto boleto = BoletoBuilder.defaultValue();
+            boleto.setInstrucao1(marcador(i));
+            boletos.add(boleto);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void deve_gerar_um_pdf_por_boleto_em_paralelo_mantendo_a_ordem() throws IOException {
+        List<byte[]> pdfs = BoletoViewer.onePerPDF(boletos, executor, 3);
+
+        assertThat(pdfs.size(), equalTo(QUANTIDADE));
+        for (int i = 0; i < QUANTIDADE; i++) {
+            assertThat(textoDaPagina(pdfs.get(i), 1), containsString(marcador(i)));
+        }
+    }
+
+    @Test
+    public void deve_agrupar_boletos_em_paralelo_mantendo_a_ordem() throws IOException {
+        byte[] pdf = BoletoViewer.groupInOnePDF(boletos, executor, 3);
+
+        assertThat(new PdfReader(pdf).getNumberOfPages(), equalTo(QUANTIDADE));
+        for (int i = 0; i < QUANTIDADE; i++) {
+            assertThat(textoDaPagina(pdf, i + 1), containsString(marcador(i)));
+        }
+    }
+
+    @Test
+    public void deve_agrupar_boletos_do_iterador_diretamente_no_stream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        BoletoViewer.groupInOnePDF(boletos.iterator(), out);
+
+        byte[] pdf = out.toByteArray();
+        assertThat(new PdfReader(pdf).getNumberOfPages(), equalTo(QUANTIDADE));
+        for (int i = 0; i < QUANTIDADE; i++) {
+            assertThat(textoDaPagina(pdf, i + 1), containsString(marcador(i)));
+        }
+    }
+
+    @Test
+    public void deve_compartilhar_recursos_identicos_ao_agrupar_boletos() {
+        List<byte[]> pdfs = BoletoViewer.onePerPDF(boletos);
+
+        byte[] agrupadoSemCompartilhar = PDFs.mergeFiles(pdfs);
+        byte[] agrupadoCompartilhando = PDFs.mergeFiles(pdfs, null, true);
+
+        assertTrue(agrupadoCompartilhando.length * 2 < agrupadoSemCompartilhar.length);
+    }
+
+    @Test
+    public void deve_desenhar_os_boletos_diretamente_no_documento_agrupado() throws IOException {
+        List<byte[]> pdfs = BoletoViewer.onePerPDF(boletos);
+
+        byte[] pdf = BoletoViewer.groupInOnePDF(boletos);
+
+        assertThat(new PdfReader(pdf).getNumberOfPages(), equalTo(QUANTIDADE));
+        for (int i = 0; i < QUANTIDADE; i++) {
+            assertThat(textoDaPagina(pdf, i + 1), equalTo(textoDaPagina(pdfs.get(i), 1)));
+        }
+        assertTrue(pdf.length < PDFs.mergeFiles(pdfs).length);
+    }
+
+    @Test
+    public void deve_desenhar_campos_multilinha_como_o_preenchimento_do_template() throws IOException {
+        for (Boleto boleto : boletos) {
+            boleto.getTitulo().getSacado().setNome("NOME DO SACADO LONGO O SUFICIENTE PARA NAO CABER EM UMA"
+                    + " UNICA LINHA DO CAMPO E PRECISAR SER QUEBRADO EM MAIS DE UMA LINHA PELO TEMPLATE");
+        }
+        List<byte[]> pdfs = BoletoViewer.onePerPDF(boletos);
+
+        byte[] pdf = BoletoViewer.groupInOnePDF(boletos);
+
+        for (int i = 0; i < QUANTIDADE; i++) {
+            assertThat(glifosDaPagina(pdf, i + 1), equalTo(glifosDaPagina(pdfs.get(i), 1)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nao_deve_aceitar_paralelismo_menor_que_um() {
+        BoletoViewer.groupInOnePDF(boletos, executor, 0);
+    }
+
+    private static String marcador(int i) {
+        return "BOLETO DE NUMERO " + i + " DO LOTE";
+    }
+
+    private static String textoDaPagina(byte[] pdf, int pagina) throws IOException {
+        return PdfTextExtractor.getTextFromPage(new PdfReader(pdf), pagina);
+    }
+
+    /**
+     * Cada trecho de texto da página com a origem da sua linha de base e o
+     * tamanho da fonte, de modo que quebras de linha e reduções de fonte
+     * diferentes também sejam percebidas. Os trechos são ordenados, pois os
+     * campos não são desenhados na mesma ordem pelos dois caminhos.
+     */
+    private static List<String> glifosDaPagina(byte[] pdf, int pagina) throws IOException {
+        final List<String> glifos = new ArrayList<String>();
+        new PdfReaderContentParser(new PdfReader(pdf)).processContent(pagina, new RenderListener() {
+            @Override
+            public void renderText(TextRenderInfo info) {
+                Vector origem = info.getBaseline().getStartPoint();
+                float altura = info.getAscentLine().getStartPoint().get(Vector.I2) - origem.get(Vector.I2);
+                glifos.add(String.format(Locale.ROOT, "%s@%.1f,%.1f/%.1f", info.getText(),
+                        origem.get(Vector.I1), origem.get(Vector.I2), altura));
+            }
+
+            @Override
+            public void beginTextBlock() {
+            }
+
+            @Override
+            public void endTextBlock() {
+            }
+
+            @Override
+            public void renderImage(ImageRenderInfo info) {
+            }
+        });
+        Collections.sort(glifos);
+        return glifos;
+    }
+
+}
@@ -34,6 +34,8 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+
 import org.jrimum.bopepo.excludes.BoletoBuilder;
 import org.jrimum.bopepo.pdf.PdfDocInfo;
 import org.jrimum.bopepo.pdf.PdfDocReader;
@@ -41,6 +43,11 @@ import org.jrimum.bopepo.view.BoletoViewer;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.itextpdf.text.pdf.PRStream;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfObject;
+import com.itextpdf.text.pdf.PdfReader;
+
 public class TestBoletoPdfFeatures {
 
     @Test
@@ -83,4 +90,26 @@ public class TestBoletoPdfFeatures {
         assertThat(pdfDocComCampos.getFields().size(), not(equalTo(0)));
     }
 
+    @Test
+    public void deve_desenhar_codigo_de_barras_vetorial_quando_solicitado() throws IOException {
+        final boolean SIM = true;
+        byte[] boletoPdfVetorial = BoletoViewer.create(BoletoBuilder.defaultValue()).setPdfCodigoDeBarrasVetorial(SIM).getPdfAsByteArray();
+        byte[] boletoPdfComImagem = BoletoViewer.create(BoletoBuilder.defaultValue()).getPdfAsByteArray();
+
+        assertThat(quantidadeDeImagens(boletoPdfVetorial), equalTo(quantidadeDeImagens(boletoPdfComImagem) - 1));
+        assertTrue(boletoPdfVetorial.length < boletoPdfComImagem.length);
+    }
+
+    private static int quantidadeDeImagens(byte[] pdf) throws IOException {
+        PdfReader reader = new PdfReader(pdf);
+        int imagens = 0;
+        for (int i = 1; i < reader.getXrefSize(); i++) {
+            PdfObject obj = reader.getPdfObject(i);
+            if (obj != null && obj.isStream() && PdfName.IMAGE.equals(((PRStream) obj).get(PdfName.SUBTYPE))) {
+                imagens++;
+            }
+        }
+        return imagens;
+    }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 11:40:12
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 11:40:12
+ *
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.AcroFields;
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * Teste unitário da classe PdfTemplateCache.
+ *
+ * @since 0.2.3
+ */
+public class TestPdfTemplateCache {
+
+	private byte[] template;
+
+	@Before
+	public void setUp() throws IOException {
+		PdfTemplateCache.clear();
+		template = Files.toByteArray(Resources.crieInputStreamParaArquivoComCampos());
+	}
+
+	@Test
+	public void seLeTemplateDeMesmoConteudoApenasUmaVez() throws IOException {
+
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(template);
+
+		assertSame(parsed, PdfTemplateCache.get(template.clone()));
+		assertEquals(1, PdfTemplateCache.size());
+	}
+
+	@Test
+	public void seEntregaCopiasIndependentesDoTemplate() throws IOException {
+
+		PdfReader copia = PdfTemplateCache.newReader(template);
+		copia.removeFields();
+
+		PdfReader outraCopia = PdfTemplateCache.newReader(template);
+
+		assertNotSame(copia, outraCopia);
+		assertEquals(3, outraCopia.getAcroFields().getFields().size());
+		assertEquals(0, copia.getAcroFields().getFields().size());
+	}
+
+	@Test
+	public void seNaoEhAfetadoPorAlteracoesNoArrayOriginal() throws IOException {
+
+		byte[] original = template.clone();
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(original);
+
+		Arrays.fill(original, (byte) 0);
+
+		assertSame(parsed, PdfTemplateCache.get(template));
+		assertEquals(3, PdfTemplateCache.newReader(template).getAcroFields().getFields().size());
+	}
+
+	@Test
+	public void seReconheceOMesmoArraySemLerOConteudo() throws IOException {
+
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(template);
+
+		assertSame(parsed, PdfTemplateCache.get(template));
+
+		PdfTemplateCache.clear();
+
+		assertNotSame(parsed, PdfTemplateCache.get(template));
+	}
+
+	@Test
+	public void seLeNovamenteTemplateDescartadoMesmoComOArrayAindaEmUso() throws IOException {
+
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(template);
+
+		for (int i = 0; i < PdfTemplateCache.MAX_TEMPLATES; i++) {
+			byte[] variacao = Arrays.copyOf(template, template.length + i + 1);
+			variacao[variacao.length - 1] = '\n';
+			PdfTemplateCache.get(variacao);
+		}
+
+		PdfTemplateCache.Template relido = PdfTemplateCache.get(template);
+
+		assertNotSame(parsed, relido);
+		assertSame(relido, PdfTemplateCache.get(template));
+		assertTrue(PdfTemplateCache.size() <= PdfTemplateCache.MAX_TEMPLATES);
+	}
+
+	@Test
+	public void seLeNovamenteArrayAlteradoDepoisDeUsado() throws IOException {
+
+		byte[] reutilizado = Arrays.copyOf(template, template.length + 1);
+		reutilizado[template.length] = '\n';
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(reutilizado);
+
+		reutilizado[template.length] = ' ';
+
+		assertNotSame(parsed, PdfTemplateCache.get(reutilizado));
+		assertEquals(2, PdfTemplateCache.size());
+	}
+
+	@Test
+	public void seIndexaPosicoesDosCamposDoTemplate() throws IOException {
+
+		PdfTemplateCache.Template parsed = PdfTemplateCache.get(template);
+		List<AcroFields.FieldPosition> esperadas = new PdfReader(template).getAcroFields().getFieldPositions("nomeDoTestador");
+
+		PdfRectangle[] posicoes = parsed.getFieldPositions("nomeDoTestador");
+
+		assertEquals(3, parsed.getFieldNames().size());
+		assertTrue(parsed.hasField("nomeDoTestador"));
+		assertFalse(parsed.hasField("campoInexistente"));
+		assertNull(parsed.getFieldPositions("campoInexistente"));
+		assertEquals(esperadas.size(), posicoes.length);
+		assertEquals(esperadas.get(0).position.getLeft(), posicoes[0].getLowerLeftX(), 0.001f);
+		assertEquals(esperadas.get(0).position.getTop(), posicoes[0].getUpperRightY(), 0.001f);
+		assertEquals(esperadas.get(0).page, posicoes[0].getPage());
+	}
+
+	@Test
+	public void seLimitaQuantidadeDeTemplatesEmCache() throws IOException {
+
+		for (int i = 0; i <= PdfTemplateCache.MAX_TEMPLATES; i++) {
+			byte[] variacao = Arrays.copyOf(template, template.length + i + 1);
+			variacao[variacao.length - 1] = '\n';
+			PdfTemplateCache.get(variacao);
+		}
+
+		assertTrue(PdfTemplateCache.size() <= PdfTemplateCache.MAX_TEMPLATES);
+	}
+
+}
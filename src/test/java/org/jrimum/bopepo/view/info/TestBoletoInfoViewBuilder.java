@@ -32,6 +32,7 @@ package org.jrimum.bopepo.view.info;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.jrimum.utilix.Objects.whenNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Image;
@@ -94,4 +95,13 @@ public class TestBoletoInfoViewBuilder {
 		assertTrue(Images.areEqual(codigoDeBarrasEsperado,codigoDeBarradasCriado));
 	}
 
+	@Test
+	public void deve_disponibilizar_o_codigo_de_barras_para_desenho_vetorial_quando_solicitado(){
+
+		BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(resourceBundle, boleto).withCodigoDeBarrasVetorial(true).build();
+
+		assertFalse(builder.images().containsKey(BoletoCampo.txtFcCodigoBarra.name()));
+		assertEquals(boleto.getCodigoDeBarras().write(), builder.barcodes().get(BoletoCampo.txtFcCodigoBarra.name()).write());
+	}
+
 }
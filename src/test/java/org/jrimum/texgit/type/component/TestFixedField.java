@@ -36,6 +36,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.DateFormat;
 import java.text.Format;
 import java.text.SimpleDateFormat;
@@ -150,6 +151,63 @@ public class TestFixedField {
                 .getValue()) == 0);
     }
 
+    @Test
+    public void testLerTrechoDaLinha() {
+
+        String linha = "#COBRANCA|000123|00000987654|00000087598|0000087590|011002|";
+
+        campoString.read(linha, 1, 9);
+        assertEquals("COBRANCA", campoString.getValue());
+
+        campoInteger.read(linha, 10, 16);
+        assertEquals(Integer.valueOf(123), campoInteger.getValue());
+
+        FixedField<Long> campoLongo = new FixedField<Long>(0L, 11, Fillers.ZERO_LEFT);
+        campoLongo.read(linha, 17, 28);
+        assertEquals(Long.valueOf(987654L), campoLongo.getValue());
+
+        campoDecimal.read(linha, 29, 40);
+        campoDecimal_v9.read(linha, 41, 51);
+        campoDate.read(linha, 52, 58);
+
+        FixedField<BigDecimal> decimal = new FixedField<BigDecimal>(BigDecimal.ZERO, 11, DecimalFormat.NUMBER_DD_BR.copy(), Fillers.ZERO_LEFT);
+        decimal.read("00000087598");
+        assertEquals(decimal.getValue(), campoDecimal.getValue());
+        FixedField<BigDecimal> decimal_v9 = new FixedField<BigDecimal>(BigDecimal.ZERO, 10, DecimalFormat.NUMBER_D_BR.copy(), Fillers.ZERO_LEFT);
+        decimal_v9.read("0000087590");
+        assertEquals(decimal_v9.getValue(), campoDecimal_v9.getValue());
+        assertEquals("011002", FORMAT_DDMMYY.format(campoDate.getValue()));
+    }
+
+    @Test
+    public void testLerPeloTipoDoValor() {
+
+        FixedField<Integer> campoTipado = new FixedField<Integer>() {
+        };
+        campoTipado.setFixedLength(3);
+        campoTipado.read("007");
+        assertEquals(Integer.valueOf(7), campoTipado.getValue());
+
+        FixedField<BigInteger> campoBigInteger = new FixedField<BigInteger>(BigInteger.ZERO, 4);
+        campoBigInteger.read("0042");
+        assertEquals(BigInteger.valueOf(42), campoBigInteger.getValue());
+
+        campoInteger.read("+00012");
+        assertEquals(Integer.valueOf(12), campoInteger.getValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLerTrechoNaoNumerico() {
+
+        campoInteger.read("#12A456#", 1, 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLerTrechoComTamanhoDiferente() {
+
+        campoString.read("COBRANCA", 0, 7);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testLerException() {
 
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 19:21:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 19:21:05
+ *
+ */
+package org.jrimum.texgit.type.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.text.Format;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.jrimum.texgit.FixedField;
+import org.jrimum.texgit.FlatFile;
+import org.jrimum.texgit.IFlatFile;
+import org.jrimum.texgit.IRecord;
+import org.jrimum.texgit.Record;
+import org.jrimum.texgit.RecordHandler;
+import org.jrimum.texgit.Texgit;
+import org.jrimum.utilix.ImmutableDateFormat;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário dos arquivos criados a partir dos layouts compilados do
+ * diretório <code>layouts</code>.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestFlatFile {
+
+    private static final String LAYOUT = "layout_referencia_febraban_cnab_400";
+
+    @Test
+    public void compilaTodosOsLayoutsDistribuidos() throws URISyntaxException {
+
+        File[] layouts = new File(getClass().getResource("/layouts").toURI()).listFiles();
+
+        assertTrue(layouts.length > 1);
+        for (File layout : layouts) {
+            IFlatFile<IRecord> ff = Texgit.createFlatFileOfLayout(layout.getName());
+            assertFalse(layout.getName(), ((FlatFile) ff).getRecordsOrder().isEmpty());
+        }
+    }
+
+    @Test
+    public void registrosSaoClonesIndependentesDoPrototipo() {
+
+        IFlatFile<IRecord> ff = Texgit.createFlatFileOfLayout(LAYOUT);
+
+        Record r1 = (Record) ff.createRecord("DETAILS");
+        Record r2 = (Record) ff.createRecord("DETAILS");
+
+        assertNotSame(r1, r2);
+        assertSame(r1.getIdType(), r1.getFields().get(0));
+        assertSame(r2.getIdType(), r2.getFields().get(0));
+        assertNotSame(r1.getIdType(), r2.getIdType());
+        assertSame(r1.getFieldIndex(), r2.getFieldIndex());
+
+        r1.setValue("NOSSO_NUMERO", "12345678901234567");
+
+        assertEquals("12345678901234567", r1.getValue("NOSSO_NUMERO"));
+        assertEquals("", r2.getValue("NOSSO_NUMERO").toString().trim());
+    }
+
+    @Test
+    public void registrosNaoCompartilhamValoresMutaveisDoPrototipo() {
+
+        IFlatFile<IRecord> ff = Texgit.createFlatFileOfLayout(LAYOUT);
+
+        Date data = ff.createRecord("DETAILS").getValue("DATA_VENCIMENTO");
+        long original = data.getTime();
+        data.setTime(original + 86400000L);
+
+        Date outra = ff.createRecord("DETAILS").getValue("DATA_VENCIMENTO");
+
+        assertNotSame(data, outra);
+        assertEquals(original, outra.getTime());
+    }
+
+    @Test
+    public void registrosCompartilhamApenasFormatadoresImutaveis() {
+
+        IFlatFile<IRecord> ff = Texgit.createFlatFileOfLayout(LAYOUT);
+
+        Record r1 = (Record) ff.createRecord("DETAILS");
+        Record r2 = (Record) ff.createRecord("DETAILS");
+
+        Format data = ((FixedField<?>) r1.getField("DATA_VENCIMENTO")).getFormatter();
+        assertTrue(data instanceof ImmutableDateFormat);
+        assertSame(data, ((FixedField<?>) r2.getField("DATA_VENCIMENTO")).getFormatter());
+        assertNotSame(((FixedField<?>) r1.getField("VALOR_TITULO")).getFormatter(),
+                ((FixedField<?>) r2.getField("VALOR_TITULO")).getFormatter());
+    }
+
+    @Test
+    public void arquivosDoMesmoLayoutSaoIndependentes() {
+
+        FlatFile ff1 = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        FlatFile ff2 = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT + ".txg.xml");
+
+        assertNotSame(ff1, ff2);
+        assertEquals(Arrays.asList("cabecalho", "DETAILS", "TRAILLER"), ff1.getRecordsOrder());
+        assertSame(ff1.getRecordsOrder(), ff2.getRecordsOrder());
+
+        ff1.addRecord((Record) ff1.createRecord("cabecalho"));
+
+        assertNotNull(ff1.getRecord("cabecalho"));
+        assertNull(ff2.getRecord("cabecalho"));
+    }
+
+    @Test
+    public void leRegistrosSobDemandaDoReader() throws IOException {
+
+        FlatFile escrito = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        StringWriter texto = new StringWriter();
+        escrito.write(registros(escrito, "00000000000000001", "00000000000000002", "00000000000000003").iterator(), texto);
+
+        final List<IRecord> lidos = new ArrayList<IRecord>();
+        FlatFile lido = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        lido.read(new StringReader(texto.toString()), new RecordHandler<IRecord>() {
+            @Override
+            public void handle(IRecord record) {
+                lidos.add(record);
+            }
+        });
+
+        assertNull(lido.getRecord("cabecalho"));
+        assertEquals(5, lidos.size());
+        assertEquals("cabecalho", ((Record) lidos.get(0)).getName());
+        assertEquals("00000000000000003", lidos.get(3).getValue("NOSSO_NUMERO"));
+        assertEquals("TRAILLER", ((Record) lidos.get(4)).getName());
+    }
+
+    @Test
+    public void entregaRegistrosInternosDoGrupoSemAnexaLosACabeca() throws IOException {
+
+        FlatFile escrito = (FlatFile) Texgit.createFlatFileOfLayout("LayoutCefSIGCB240");
+        IRecord segmentoT = escrito.createRecord("Arrecadacao-Segmento-T");
+        segmentoT.addInnerRecord(escrito.createRecord("Arrecadacao-Segmento-U"));
+        segmentoT.addInnerRecord(escrito.createRecord("Arrecadacao-Segmento-U"));
+        StringWriter texto = new StringWriter();
+        escrito.write(Arrays.<IRecord>asList(segmentoT).iterator(), texto);
+
+        final List<IRecord> lidos = new ArrayList<IRecord>();
+        FlatFile lido = (FlatFile) Texgit.createFlatFileOfLayout("LayoutCefSIGCB240");
+        lido.read(new StringReader(texto.toString()), new RecordHandler<IRecord>() {
+            @Override
+            public void handle(IRecord record) {
+                lidos.add(record);
+            }
+        });
+
+        assertEquals(3, lidos.size());
+        assertEquals("Arrecadacao-Segmento-T", ((Record) lidos.get(0)).getName());
+        List<IRecord> internos = lidos.get(0).getInnerRecords();
+        assertTrue(internos == null || internos.isEmpty());
+        assertEquals("Arrecadacao-Segmento-U", ((Record) lidos.get(1)).getName());
+        assertEquals("Arrecadacao-Segmento-U", ((Record) lidos.get(2)).getName());
+    }
+
+    @Test
+    public void escreveRegistrosDoIteradorComoOWriteDoArquivo() throws IOException {
+
+        FlatFile escrito = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        List<IRecord> registros = registros(escrito, "00000000000000001", "00000000000000002");
+        for (IRecord registro : registros) {
+            escrito.addRecord((Record) registro);
+        }
+        StringWriter texto = new StringWriter();
+
+        escrito.write(registros.iterator(), texto);
+
+        StringBuilder esperado = new StringBuilder();
+        for (String linha : escrito.write("\r\n")) {
+            esperado.append(linha);
+        }
+        assertEquals(esperado.toString(), texto.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void naoEscreveRegistrosForaDaOrdemDoLayout() throws IOException {
+
+        FlatFile ff = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+
+        ff.write(Arrays.asList(ff.createRecord("TRAILLER"), ff.createRecord("cabecalho")).iterator(), new StringWriter());
+    }
+
+    private static List<IRecord> registros(FlatFile ff, String... nossosNumeros) {
+
+        List<IRecord> registros = new ArrayList<IRecord>();
+        registros.add(ff.createRecord("cabecalho"));
+        for (String nossoNumero : nossosNumeros) {
+            registros.add(ff.createRecord("DETAILS").setValue("NOSSO_NUMERO", nossoNumero));
+        }
+        registros.add(ff.createRecord("TRAILLER"));
+        return registros;
+    }
+
+    @Test
+    public void leLinhasPelosPrototiposDoLayout() {
+
+        FlatFile escrito = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        escrito.addRecord((Record) escrito.createRecord("cabecalho"));
+        for (String nossoNumero : Arrays.asList("00000000000000001", "00000000000000002")) {
+            Record detalhe = (Record) escrito.createRecord("DETAILS");
+            detalhe.setValue("NOSSO_NUMERO", nossoNumero);
+            escrito.addRecord(detalhe);
+        }
+        escrito.addRecord((Record) escrito.createRecord("TRAILLER"));
+
+        FlatFile lido = (FlatFile) Texgit.createFlatFileOfLayout(LAYOUT);
+        lido.read(escrito.write());
+
+        assertEquals(escrito.write(), lido.write());
+        assertEquals(2, lido.getRecords("DETAILS").size());
+        IRecord ultimo = new ArrayList<IRecord>(lido.getRecords("DETAILS")).get(1);
+        assertEquals("00000000000000002", ultimo.getValue("NOSSO_NUMERO"));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 15:20:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 15:20:44
+ *
+ */
+package org.jrimum.texgit.type.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jrimum.texgit.FieldHandle;
+import org.jrimum.texgit.Fillers;
+import org.jrimum.texgit.FixedField;
+import org.jrimum.texgit.Record;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário do acesso aos campos de um registro pelo nome e por
+ * {@link FieldHandle}.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestRecord {
+
+    private Record record;
+
+    private FixedField<String> tipo;
+
+    private FixedField<String> brancos;
+
+    @Before
+    public void setUp() {
+
+        tipo = new FixedField<String>("tipo", "1", 1);
+        brancos = new FixedField<String>("brancos", " ", 1);
+
+        record = new Record();
+        record.add(tipo);
+        record.add(brancos);
+        record.add(new FixedField<String>("nome", "", 10, Fillers.WHITE_SPACE_RIGHT));
+        record.add(new FixedField<String>("brancos", " ", 1));
+    }
+
+    @Test
+    public void seAcessaCampoPeloNomeComoNaBuscaSequencial() {
+
+        assertSame(record.getFields().get(2), record.getField("nome"));
+        assertSame(record.getFields().get(1), record.getField("brancos"));
+        assertNull(record.getField("inexistente"));
+    }
+
+    @Test
+    public void seEncontraCampoIncluidoAposIndexacao() {
+
+        record.getField("nome");
+        FixedField<String> incluido = new FixedField<String>("incluido", "X", 1);
+        record.add(incluido);
+
+        assertSame(incluido, record.getField("incluido"));
+    }
+
+    @Test
+    public void seIdentificaRegistroPelaJanelaDaLinha() {
+
+        record.setIdType(tipo);
+
+        assertTrue(record.matchesId("1 FULANO     "));
+        assertFalse(record.matchesId("2 FULANO     "));
+        assertFalse(record.matchesId(""));
+        assertTrue(record.matches(brancos, "1 FULANO     "));
+        assertFalse(record.matches(brancos, "1-FULANO     "));
+    }
+
+    @Test
+    public void seAcessaCampoPeloHandleEmRegistrosDoMesmoLayout() throws CloneNotSupportedException {
+
+        FieldHandle nome = record.getHandle("nome");
+        Record outro = record.clone();
+
+        outro.setValue(nome, "FULANO");
+        record.setValue(nome, "BELTRANO");
+
+        assertSame(record.getFieldIndex(), outro.getFieldIndex());
+        assertEquals("FULANO", outro.getValue(nome));
+        assertEquals("BELTRANO", record.getValue("nome"));
+    }
+
+    @Test
+    public void seAcessaCampoPeloNomeDoHandleEmOutroLayout() {
+
+        Record outro = new Record();
+        outro.add(new FixedField<String>("nome", "CICLANO", 10, Fillers.WHITE_SPACE_RIGHT));
+
+        assertEquals("CICLANO", outro.getValue(record.getHandle("nome")));
+        assertNull(record.getHandle("inexistente"));
+    }
+}
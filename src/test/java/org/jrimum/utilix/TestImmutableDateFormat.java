@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 21:40:15
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 21:40:15
+ *
+ */
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário do formatador de datas imutável.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestImmutableDateFormat {
+
+	private static final long ANO_2100 = 4102444800000L;
+
+	@Test
+	public void escreveELeComoSimpleDateFormat() throws ParseException {
+
+		Random random = new Random(7);
+		for (String padrao : new String[] { "ddMMyy", "yyMMdd", "ddMMyyyy", "yyyyMMdd", "hhmmss", "dd/MM/yyyy" }) {
+			SimpleDateFormat esperado = new SimpleDateFormat(padrao);
+			ImmutableDateFormat formato = ImmutableDateFormat.of(padrao);
+			for (int i = 0; i < 2000; i++) {
+				Date data = new Date((long) (random.nextDouble() * ANO_2100));
+				String texto = esperado.format(data);
+				assertEquals(padrao, texto, formato.format(data));
+				assertEquals(padrao + " " + texto, esperado.parse(texto), formato.parse(texto));
+			}
+		}
+	}
+
+	@Test
+	public void leCamposForaDaFaixaComoSimpleDateFormat() throws ParseException {
+
+		assertEquals(new SimpleDateFormat("ddMMyy").parse("000000"), ImmutableDateFormat.of("ddMMyy").parse("000000"));
+		assertEquals(new SimpleDateFormat("hhmmss").parse("246060"), ImmutableDateFormat.of("hhmmss").parse("246060"));
+		assertEquals(new SimpleDateFormat("dd/MM/yyyy").parse("31/2/2007"), DateUtil.FORMAT_DD_MM_YYYY.parse("31/2/2007"));
+	}
+
+	@Test(expected = ParseException.class)
+	public void naoLeTextoSemData() throws ParseException {
+
+		ImmutableDateFormat.of("ddMMyy").parse("AB0101");
+	}
+
+	@Test
+	public void cloneEAPropriaInstancia() {
+
+		ImmutableDateFormat formato = ImmutableDateFormat.of("ddMMyyyy");
+		assertSame(formato, formato.clone());
+		assertEquals(formato, ImmutableDateFormat.of("ddMMyyyy"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void naoPermiteAlterarOFormatador() {
+
+		ImmutableDateFormat.of("ddMMyyyy").setLenient(false);
+	}
+
+	@Test
+	public void compartilhaOMesmoFormatadorEntreThreads() throws Exception {
+
+		final ImmutableDateFormat formato = ImmutableDateFormat.of("ddMMyyyy");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> tarefas = new ArrayList<Future<?>>();
+			for (int t = 0; t < 8; t++) {
+				final long semente = t;
+				tarefas.add(executor.submit(() -> {
+					SimpleDateFormat esperado = new SimpleDateFormat("ddMMyyyy");
+					Random random = new Random(semente);
+					for (int i = 0; i < 5000; i++) {
+						Date data = new Date((long) (random.nextDouble() * ANO_2100));
+						String texto = esperado.format(data);
+						assertEquals(texto, formato.format(data));
+						assertEquals(esperado.parse(texto), formato.parse(texto));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 23:59:48
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 23:59:48
+ *
+ */
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário da remoção de acentos e conversão para maiúsculas.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestStringUtil {
+
+	@Test
+	public void eliminaAcentosComoSubstituicaoCaractereACaractere() {
+
+		for (char c = 0; c < 0x250; c++) {
+			String texto = "a" + c + "Z";
+			assertEquals(Integer.toHexString(c), Strings.eliminateAccent(texto), StringUtil.eliminateAccent(texto));
+			assertEquals(Integer.toHexString(c), Strings.eliminateAccent(texto).toUpperCase(),
+					StringUtil.eliminateAccentAndUpperCase(texto));
+		}
+		assertEquals("SAO JOAO DA CONCEICAO", StringUtil.eliminateAccentAndUpperCase("São João da Conceição"));
+		assertEquals("STRASSE", StringUtil.eliminateAccentAndUpperCase("straße"));
+		assertNull(StringUtil.eliminateAccent(null));
+	}
+
+	@Test
+	public void textosAleatoriosIguaisAoCalculoAnterior() {
+
+		Random random = new Random(25);
+		for (int i = 0; i < 10000; i++) {
+			char[] chars = new char[random.nextInt(40)];
+			for (int k = 0; k < chars.length; k++) {
+				chars[k] = (char) (random.nextInt(8) == 0 ? random.nextInt(0x300) : 0x20 + random.nextInt(0xE0));
+			}
+			String texto = new String(chars);
+			assertEquals(texto, Strings.eliminateAccent(texto).toUpperCase(), StringUtil.eliminateAccentAndUpperCase(texto));
+		}
+	}
+
+	@Test
+	public void naoCopiaTextoJaConvertido() {
+
+		String numero = "00012345678901234";
+		String maiusculas = "PAGAMENTO 01/2026";
+
+		assertSame(numero, StringUtil.eliminateAccentAndUpperCase(numero));
+		assertSame(maiusculas, StringUtil.eliminateAccentAndUpperCase(maiusculas));
+		assertSame(numero, StringUtil.eliminateAccent(numero));
+	}
+
+	@Test
+	public void usaAsRegrasDoIdiomaPadrao() {
+
+		Locale padrao = Locale.getDefault();
+		try {
+			Locale.setDefault(new Locale("tr", "TR"));
+			assertEquals("\u0130N\u0130C\u0130O", StringUtil.eliminateAccentAndUpperCase("início"));
+			assertEquals(Strings.eliminateAccent("início").toUpperCase(), StringUtil.eliminateAccentAndUpperCase("início"));
+		} finally {
+			Locale.setDefault(padrao);
+		}
+	}
+}
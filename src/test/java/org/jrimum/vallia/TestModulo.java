@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 JRimum Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by
+ * applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS
+ * OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * Created at: 18/10/2026 - 22:31:47
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode usar
+ * esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob
+ * esta LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER
+ * TIPO, sejam expressas ou tácitas. Veja a LICENÇA para a redação específica a
+ * reger permissões e limitações sob esta LICENÇA.
+ *
+ * Criado em: 18/10/2026 - 22:31:47
+ *
+ */
+package org.jrimum.vallia;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário do cálculo dos módulos 10 e 11.
+ * </p>
+ *
+ * @since 0.2.3
+ */
+public class TestModulo {
+
+	@Test
+	public void somasIguaisAsDoCalculoPorStringInvertida() {
+
+		Random random = new Random(11);
+		for (int i = 0; i < 5000; i++) {
+			String numero = numero(random, 1 + random.nextInt(47));
+			int min = 1 + random.nextInt(3);
+			int max = min + random.nextInt(8);
+			assertEquals(numero, somaMod11(numero, min, max), Modulo.calculeSomaSequencialMod11(numero, min, max));
+			assertEquals(numero, somaMod10(numero, min, max), Modulo.calculeSomaSequencialMod10(numero, min, max));
+			assertEquals(numero, somaMod11(numero, min, max),
+					Modulo.calculeSomaSequencialMod11(new StringBuilder(numero), min, max));
+		}
+	}
+
+	@Test
+	public void numerosLongIguaisAoCalculoPorString() {
+
+		Random random = new Random(10);
+		Modulo modulo10 = new Modulo(TipoDeModulo.MODULO10);
+		Modulo modulo11 = new Modulo(TipoDeModulo.MODULO11);
+		for (int i = 0; i < 5000; i++) {
+			long numero = random.nextLong() >>> (1 + random.nextInt(63));
+			String texto = String.valueOf(numero);
+			assertEquals(texto, modulo10.calcule(texto), modulo10.calcule(numero));
+			assertEquals(texto, modulo11.calcule(texto), modulo11.calcule(numero));
+		}
+		assertEquals(0, Modulo.calculeMod11(0L, 2, 9));
+	}
+
+	@Test
+	public void aceitaDigitosUnicodeComoStringUtilsIsNumeric() {
+
+		assertEquals(Modulo.calculeMod11("0123", 2, 9), Modulo.calculeMod11("٠١٢٣", 2, 9));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void naoAceitaCaracteresNaoNumericos() {
+
+		Modulo.calculeMod10("12 34", 1, 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void naoAceitaNumeroVazio() {
+
+		Modulo.calculeMod11("", 2, 9);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void naoAceitaNumeroNegativo() {
+
+		Modulo.calculeMod11(-1L, 2, 9);
+	}
+
+	private static String numero(Random random, int tamanho) {
+
+		StringBuilder sb = new StringBuilder(tamanho);
+		for (int i = 0; i < tamanho; i++) {
+			sb.append((char) ('0' + random.nextInt(10)));
+		}
+		return sb.toString();
+	}
+
+	/*
+	 * Cálculos de referência: dígitos da string invertida.
+	 */
+
+	private static int somaMod11(String numero, int min, int max) {
+
+		int soma = 0;
+		int peso = min;
+		for (char c : new StringBuilder(numero).reverse().toString().toCharArray()) {
+			soma += peso * Character.getNumericValue(c);
+			peso = (peso == max) ? min : peso + 1;
+		}
+		return soma;
+	}
+
+	private static int somaMod10(String numero, int min, int max) {
+
+		int soma = 0;
+		int peso = max;
+		for (char c : new StringBuilder(numero).reverse().toString().toCharArray()) {
+			int produto = peso * Character.getNumericValue(c);
+			soma += (produto > 9) ? produto / 10 + produto % 10 : produto;
+			peso = (peso == max) ? min : max;
+		}
+		return soma;
+	}
+}